@@ -0,0 +1,58 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.DemoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * benchmark 용 application context.
+ * 기본은 embedded H2, -Dbench.datasource.url=jdbc:postgresql://... 로 실제 DB 측정.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType type, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        String url = System.getProperty("bench.datasource.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username", System.getProperty("bench.datasource.username", "bench"));
+        properties.put("spring.datasource.password", System.getProperty("bench.datasource.password", "bench"));
+        if (url.startsWith("jdbc:h2")) {
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        }
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("server.port", "0");
+        properties.put("logging.level.root", "WARN");
+        // 모든 요청이 127.0.0.1 -> 요청 제한에 걸려 429 만 측정하지 않도록 끔 (측정하려면 overrides 로 켬)
+        properties.put("member.rate-limit.enabled", "false");
+        properties.put("member.rate-limit.concurrency.enabled", "false");
+        properties.putAll(overrides);
+
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .web(type)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * 2xx, 404 외의 응답(429, 503, 5xx 등)이면 측정을 중단 -> 오류 응답 시간을 측정하지 않도록
+     */
+    static int expectStatus(int status) {
+        if ((status < 200 || status >= 300) && status != 404) {
+            throw new IllegalStateException("Unexpected status " + status);
+        }
+        return status;
+    }
+
+    static boolean isPostgres() {
+        return System.getProperty("bench.datasource.url", "").startsWith("jdbc:postgresql");
+    }
+}
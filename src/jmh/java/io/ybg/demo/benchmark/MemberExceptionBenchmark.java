@@ -0,0 +1,72 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.exception.MemberNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 404/409 결과를 예외로 전달할 때의 비용 (gc profiler : gc.alloc.rate.norm = B/op).
+ * depth 로 controller -> service -> repository 호출 깊이를 흉내내 stack trace 채우는 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberExceptionBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    private long id = 1L;
+
+    @Benchmark
+    public void runtimeException(Blackhole blackhole) {
+        try {
+            throwAt(depth, false);
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void stacklessException(Blackhole blackhole) {
+        try {
+            throwAt(depth, true);
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    // 응답 detail 작성까지 포함
+    @Benchmark
+    public String runtimeExceptionMessage() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessExceptionMessage() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void throwAt(int remaining, boolean stackless) {
+        if (remaining > 0) {
+            throwAt(remaining - 1, stackless);
+            return;
+        }
+        if (stackless) {
+            throw new MemberNotFoundException("Find", "id", id);
+        }
+        throw new RuntimeException("Find Member with id: " + id + " doesn't exist");
+    }
+}
@@ -0,0 +1,68 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.service.MemberBatchService;
+import io.ybg.demo.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * platform thread vs virtual thread 실행 모드 부하 비교 (실제 tomcat + HTTP).
+ * SampleTime 결과의 p0.99 와 Throughput 을 비교한다.
+ * ./gradlew jmh -Pjmh.includes=MemberHttpLoad
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+public class MemberHttpLoadBenchmark {
+    private static final int SEED = 10_000;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = threads.equals("virtual");
+        context = BenchmarkContext.start(WebApplicationType.SERVLET, Map.of(
+                "spring.threads.virtual.enabled", String.valueOf(virtual),
+                "spring.datasource.hikari.maximum-pool-size", "20",
+                "spring.datasource.hikari.minimum-idle", "20",
+                "spring.datasource.hikari.connection-timeout", "2000"));
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/member/v1";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+
+        context.getBean(MemberBatchService.class).saveMembers(
+                IntStream.range(0, SEED).mapToObj(i -> Members.create("load" + i + "@mail.com")).toList());
+        firstId = context.getBean(MemberService.class).getMembersAfter(0L, 1).getContent().getFirst().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    // cache 를 거치지 않고 매번 DB 를 사용하는 cursor 페이지 조회
+    @Benchmark
+    public int getMembersPage() throws Exception {
+        long cursor = firstId + ThreadLocalRandom.current().nextInt(SEED);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/page?size=20&cursor=" + cursor)).GET().build();
+        return BenchmarkContext.expectStatus(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+}
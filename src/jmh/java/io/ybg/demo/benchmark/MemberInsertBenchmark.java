@@ -0,0 +1,63 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.service.MemberBatchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * uuid version(4 | 7), sequence allocation size 별 batch insert 처리량.
+ * postgres 로 측정하면 종료 시 member_uuid index 크기를 출력한다.
+ * ./gradlew jmh -Pjmh.includes=MemberInsert -Dbench.datasource.url=jdbc:postgresql://localhost:5432/postgres
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberInsertBenchmark {
+    private static final int BATCH = 500;
+
+    @Param({"4", "7"})
+    private String uuidVersion;
+
+    @Param({"1", "50"})
+    private String allocationSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private MemberBatchService memberBatchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(WebApplicationType.NONE, Map.of(
+                "spring.jpa.properties.hibernate.member.uuid.version", uuidVersion,
+                "spring.jpa.properties.hibernate.member.id.increment_size", allocationSize));
+        memberBatchService = context.getBean(MemberBatchService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (BenchmarkContext.isPostgres()) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            System.out.printf("%nuuid v%s, allocation %s : member_uuid index %s, %s rows%n", uuidVersion, allocationSize,
+                    jdbcTemplate.queryForObject("select pg_size_pretty(pg_relation_size('member_uuid'))", String.class),
+                    jdbcTemplate.queryForObject("select count(*) from member_entity", Long.class));
+        }
+        context.close();
+    }
+
+    // 1 op = 500 row insert
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object insertBatch() {
+        long base = sequence.getAndAdd(BATCH);
+        return memberBatchService.saveMembers(
+                IntStream.range(0, BATCH).mapToObj(i -> Members.create("insert" + (base + i) + "@mail.com")).toList());
+    }
+}
@@ -0,0 +1,44 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.mapper.MemberMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberMapperBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private MemberEntity member;
+    private List<MemberEntity> members;
+    private MemberDTO.CreateMemberDTO create;
+
+    @Setup
+    public void setUp() {
+        member = Members.entity(1);
+        members = Members.entities(size);
+        create = Members.create("user@mail.com");
+    }
+
+    @Benchmark
+    public MemberDTO.InfoMemberDTO memberToInfo() {
+        return MemberMapper.INSTANCE.MemberToInfo(member);
+    }
+
+    @Benchmark
+    public List<MemberDTO.InfoMemberDTO> memberToInfoList() {
+        return MemberMapper.INSTANCE.MemberToInfo(members);
+    }
+
+    @Benchmark
+    public MemberEntity createToMember() {
+        return MemberMapper.INSTANCE.CreateToMember(create);
+    }
+}
@@ -0,0 +1,81 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.service.MemberBatchService;
+import io.ybg.demo.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * filter -> controller -> service -> repository -> json 전체 요청 경로 (네트워크 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberMvcBenchmark {
+    private static final int SEED = 1_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(WebApplicationType.SERVLET, Map.of());
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        context.getBean(MemberBatchService.class).saveMembers(
+                IntStream.range(0, SEED).mapToObj(i -> Members.create("seed" + i + "@mail.com")).toList());
+        firstId = context.getBean(MemberService.class).getMembersAfter(0L, 1).getContent().getFirst().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getMemberById() throws Exception {
+        return BenchmarkContext.expectStatus(mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/" + (firstId + ThreadLocalRandom.current().nextInt(SEED))))
+                .andReturn().getResponse().getStatus());
+    }
+
+    // 404 -> MemberNotFoundException -> ProblemDetail
+    @Benchmark
+    public int getMemberById_notFound() throws Exception {
+        return BenchmarkContext.expectStatus(mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/-" + (1 + ThreadLocalRandom.current().nextInt(SEED))))
+                .andReturn().getResponse().getStatus());
+    }
+
+    @Benchmark
+    public int getAllMembers() throws Exception {
+        return BenchmarkContext.expectStatus(mockMvc.perform(MockMvcRequestBuilders.get("/member/v1"))
+                .andReturn().getResponse().getStatus());
+    }
+
+    @Benchmark
+    public int checkEmail() throws Exception {
+        return BenchmarkContext.expectStatus(mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/email/check/seed" + ThreadLocalRandom.current().nextInt(SEED * 2) + "@mail.com"))
+                .andReturn().getResponse().getStatus());
+    }
+
+    @Benchmark
+    public int createMember() throws Exception {
+        return BenchmarkContext.expectStatus(mockMvc.perform(MockMvcRequestBuilders.post("/member/v1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"mvc" + sequence.incrementAndGet() + "@mail.com\",\"name\":\"사용자\",\"phone\":\"010-1234-5678\"}"))
+                .andReturn().getResponse().getStatus());
+    }
+}
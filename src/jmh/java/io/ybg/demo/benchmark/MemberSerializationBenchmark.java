@@ -0,0 +1,74 @@
+package io.ybg.demo.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.mapper.MemberMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON vs CBOR vs Smile 직렬화/역직렬화 시간, gzip 포함 시간.
+ * payload 크기(원본, gzip)는 trial 시작 시 출력
+ * ./gradlew jmh -Pjmh.includes=MemberSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberSerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<MemberDTO.InfoMemberDTO> members;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        // spring boot 와 같은 module(jsr310 등) 구성
+        objectMapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            default -> JsonMapper.builder().findAndAddModules().build();
+        };
+        members = MemberMapper.INSTANCE.MemberToInfo(Members.entities(size));
+        payload = objectMapper.writeValueAsBytes(members);
+        System.out.printf("%n%s x %d : %d bytes, gzip %d bytes%n", format, size, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return objectMapper.writeValueAsBytes(members);
+    }
+
+    @Benchmark
+    public byte[] serializeListGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(members));
+    }
+
+    // InfoMemberDTO 는 기본 생성자가 없어 tree 로 파싱
+    @Benchmark
+    public JsonNode deserializeList() throws IOException {
+        return objectMapper.readTree(payload);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
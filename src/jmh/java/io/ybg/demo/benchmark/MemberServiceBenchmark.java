@@ -0,0 +1,66 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.service.MemberBatchService;
+import io.ybg.demo.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberServiceBenchmark {
+    private static final int SEED = 10_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(WebApplicationType.NONE, Map.of());
+        memberService = context.getBean(MemberService.class);
+        context.getBean(MemberBatchService.class).saveMembers(
+                IntStream.range(0, SEED).mapToObj(i -> Members.create("seed" + i + "@mail.com")).toList());
+        firstId = memberService.getMembersAfter(0L, 1).getContent().getFirst().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberDTO.InfoMemberDTO getMemberById() {
+        return memberService.getMemberById(firstId + ThreadLocalRandom.current().nextInt(SEED));
+    }
+
+    @Benchmark
+    public Object getMembersPage() {
+        return memberService.getMembersAfter(firstId + ThreadLocalRandom.current().nextInt(SEED), 20);
+    }
+
+    @Benchmark
+    public boolean isExistingEmail() {
+        return memberService.isExistingEmail("seed" + ThreadLocalRandom.current().nextInt(SEED * 2) + "@mail.com");
+    }
+
+    @Benchmark
+    public void createUpdateDelete() {
+        long n = sequence.incrementAndGet();
+        MemberEntity member = memberService.saveMember(
+                MemberEntity.builder().email("bench" + n + "@mail.com").name("사용자").phone("010-1234-5678").build());
+        memberService.updateMember(member.getId(), MemberEntity.builder().email("bench" + n + "@mail.com").name("수정").build());
+        memberService.deleteMemberById(member.getId());
+    }
+}
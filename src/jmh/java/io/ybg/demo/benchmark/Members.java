@@ -0,0 +1,35 @@
+package io.ybg.demo.benchmark;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+final class Members {
+
+    private Members() {
+    }
+
+    static MemberEntity entity(long id) {
+        return MemberEntity.builder()
+                .id(id)
+                .uuid(UUID.randomUUID())
+                .email("user" + id + "@mail.com")
+                .name("사용자" + id)
+                .phone("010-1234-5678")
+                .reg_dt(LocalDateTime.now())
+                .mod_dt(LocalDateTime.now())
+                .build();
+    }
+
+    static List<MemberEntity> entities(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(Members::entity).toList();
+    }
+
+    static MemberDTO.CreateMemberDTO create(String email) {
+        return MemberDTO.CreateMemberDTO.builder().email(email).name("사용자").phone("010-1234-5678").build();
+    }
+}
@@ -2,8 +2,12 @@ package io.ybg.demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
-@SpringBootApplication
+// r2dbc ConnectionFactory bean 이 생기면 JPA DataSource 자동 설정이 꺼지므로 직접 구성 (ReactiveConfig)
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ConfigurationPropertiesScan
 public class DemoApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,84 @@
+package io.ybg.demo.component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 시간으로 조절하는 동시 처리 한도 (AIMD).
+ * Little's law (동시 처리 수 = 처리량 x 응답 시간) : 처리량이 한계에 닿으면 동시 처리 수를 늘려도 응답 시간만 늘어난다 (pool 대기).
+ * <ul>
+ *     <li>응답 시간 maxLatency 이하, 한도의 절반 이상 사용 중 : +1</li>
+ *     <li>응답 시간 maxLatency 초과 : x backoff, 직전 감소 이후 시작한 요청으로만 다시 감소 (감소 전 요청들이 연달아 줄이지 않도록)</li>
+ * </ul>
+ */
+public final class AdaptiveConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final long maxLatencyNanos;
+    private final double backoff;
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecrease;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration maxLatency, double backoff) {
+        this(initialLimit, minLimit, maxLimit, maxLatency, backoff, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration maxLatency, double backoff, LongSupplier nanoTime) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit || backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("Require 1 <= min <= initial <= max and 0 < backoff < 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.backoff = backoff;
+        this.nanoTime = nanoTime;
+        this.limit = initialLimit;
+        this.lastDecrease = nanoTime.getAsLong();
+    }
+
+    /**
+     * @return 시작 시각 (release 에 전달), 한도 초과면 -1
+     */
+    public long tryAcquire() {
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            return -1;
+        }
+        return nanoTime.getAsLong();
+    }
+
+    // 응답 시간 반영
+    public void release(long started) {
+        long now = nanoTime.getAsLong();
+        int current = inFlight.getAndDecrement();
+        update(started, now - started, current);
+    }
+
+    // 응답 시간을 반영하지 않음 (streaming 등)
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long started, long latency, int current) {
+        if (latency > maxLatencyNanos) {
+            if (started - lastDecrease >= 0) {
+                limit = Math.max(minLimit, limit * backoff);
+                lastDecrease = nanoTime.getAsLong();
+            }
+        } else if (current * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
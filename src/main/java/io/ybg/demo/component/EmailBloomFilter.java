@@ -0,0 +1,93 @@
+package io.ybg.demo.component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * lock-free bloom filter (Kirsch-Mitzenmacher double hashing).
+ * 삭제는 지원하지 않으며, 삭제된 email 은 rebuild 전까지 false positive 로 남는다.
+ */
+final class EmailBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private EmailBloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = (long) bits.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    static EmailBloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = Math.max((long) (-n * Math.log(fpp) / (Math.log(2) * Math.log(2))), 64);
+        int k = Math.max((int) Math.round((double) m / n * Math.log(2)), 1);
+        return new EmailBloomFilter(m, k);
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long prev;
+            do {
+                prev = bits.get(word);
+                if ((prev & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, prev, prev | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 현재 삽입 수 기준 이론상 false positive 확률
+    double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitSize), hashCount);
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // FNV-1a 64 + murmur3 finalizer
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,195 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.entity.MemberOutboxEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.repository.MemberOutboxRepo;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * existsByEmail 앞단의 email bloom filter.
+ * 준비(warm-up) 전에는 항상 "있을 수도 있음" 을 반환해 DB 조회로 넘긴다.
+ * filter 는 instance 마다 따로 가지므로 다른 instance 의 생성/수정 email 은 outbox 의 발행 변경으로 반영한다 (refresh).
+ * 반영 전(outbox relay-interval + email-filter refresh-interval)에는 "없음" 으로 답할 수 있고, 중복 가입은 email unique 제약이 막는다.
+ */
+@Component
+@Slf4j
+public class EmailFilter {
+    private final MemberRepo memberRepo;
+    private final MemberOutboxRepo memberOutboxRepo;
+    private final MemberProperties.EmailFilter properties;
+
+    // rebuild, refresh 는 DB 조회 중 lock 을 잡으므로 virtual thread 가 pinning 되지 않도록 ReentrantLock
+    private final ReentrantLock lock = new ReentrantLock();
+    // refresh 가 읽은 마지막 outbox seq
+    private long lastSeq;
+
+    private volatile EmailBloomFilter current;
+    // rebuild 중 들어온 email 은 새 filter 에도 기록
+    private volatile EmailBloomFilter building;
+
+    private final Counter negative;
+    private final Counter positive;
+    private final Counter falsePositive;
+
+    public EmailFilter(MemberRepo memberRepo, MemberOutboxRepo memberOutboxRepo, MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        this.memberRepo = memberRepo;
+        this.memberOutboxRepo = memberOutboxRepo;
+        this.properties = memberProperties.getEmailFilter();
+
+        this.negative = Counter.builder("member.email.filter.checks").tag("result", "negative").register(meterRegistry);
+        this.positive = Counter.builder("member.email.filter.checks").tag("result", "positive").register(meterRegistry);
+        this.falsePositive = Counter.builder("member.email.filter.checks").tag("result", "false_positive").register(meterRegistry);
+        Gauge.builder("member.email.filter.fpp.expected", this, EmailFilter::expectedFpp).register(meterRegistry);
+        Gauge.builder("member.email.filter.fpp.observed", this, EmailFilter::observedFpp).register(meterRegistry);
+        Gauge.builder("member.email.filter.insertions", this, f -> f.current == null ? 0 : f.current.insertions()).register(meterRegistry);
+    }
+
+    public boolean mightContain(String email) {
+        EmailBloomFilter filter = current;
+        if (filter == null || !properties.isEnabled()) {
+            return true;
+        }
+        if (filter.mightContain(normalize(email))) {
+            positive.increment();
+            return true;
+        }
+        negative.increment();
+        return false;
+    }
+
+    /**
+     * 트랜잭션 안이면 commit 이후에 기록한다.
+     * commit 전에 넣으면 그 사이 시작한 rebuild 의 조회(commit 전 snapshot)에서 빠진 채 교체될 수 있다.
+     */
+    public void put(String email) {
+        String normalized = normalize(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(normalized);
+                }
+            });
+        } else {
+            add(normalized);
+        }
+    }
+
+    private void add(String normalized) {
+        EmailBloomFilter filter = current;
+        if (filter != null) {
+            filter.put(normalized);
+        }
+        EmailBloomFilter next = building;
+        if (next != null) {
+            next.put(normalized);
+        }
+    }
+
+    // filter 는 통과했지만 DB 에 없던 경우
+    public void recordFalsePositive() {
+        falsePositive.increment();
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            // 이후 발행된 변경은 refresh 가 다시 반영 (중복 put 은 무해)
+            long seq = memberOutboxRepo.findMaxSeq();
+            EmailBloomFilter next = EmailBloomFilter.create(Math.max(memberRepo.count() * 2, properties.getExpectedInsertions()), properties.getFpp());
+            building = next;
+            try (Stream<String> emails = memberRepo.streamAllEmails()) {
+                emails.forEach(email -> next.put(normalize(email)));
+            } finally {
+                building = null;
+            }
+            current = next;
+            lastSeq = seq;
+            log.info("Email filter rebuilt : {} emails, {} bits, {} hashes, {} ms",
+                    next.insertions(), next.bitSize(), next.hashCount(), System.currentTimeMillis() - start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 seq 이후 outbox 발행 변경 중 생성/수정된 member 의 email 을 넣는다 (다른 instance 의 쓰기 포함).
+     * 삭제는 반영하지 않음 (bloom filter 는 제거 불가, 오탐으로 처리)
+     */
+    @Transactional(readOnly = true)
+    public void refresh() {
+        lock.lock();
+        try {
+            if (current == null) {
+                return;
+            }
+            Slice<MemberOutboxEntity> changes;
+            do {
+                changes = memberOutboxRepo.findPublishedAfter(lastSeq, PageRequest.of(0, properties.getRefreshBatchSize(), Sort.by("seq")));
+                List<Long> ids = changes.stream()
+                        .filter(change -> change.getType() != MemberChangedEvent.Type.DELETED)
+                        .map(MemberOutboxEntity::getMemberId)
+                        .distinct()
+                        .toList();
+                if (!ids.isEmpty()) {
+                    memberRepo.findInfoByIdIn(ids).forEach(m -> add(normalize(m.getEmail())));
+                }
+                if (changes.hasContent()) {
+                    lastSeq = changes.getContent().getLast().getSeq();
+                }
+            } while (changes.hasNext());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        EmailBloomFilter filter = current;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", filter != null);
+        stats.put("enabled", properties.isEnabled());
+        if (filter != null) {
+            stats.put("insertions", filter.insertions());
+            stats.put("bits", filter.bitSize());
+            stats.put("hashes", filter.hashCount());
+        }
+        stats.put("expectedFpp", expectedFpp());
+        stats.put("observedFpp", observedFpp());
+        return stats;
+    }
+
+    private double expectedFpp() {
+        EmailBloomFilter filter = current;
+        return filter == null ? 0 : filter.expectedFpp();
+    }
+
+    private double observedFpp() {
+        double positives = positive.count();
+        return positives == 0 ? 0 : falsePositive.count() / positives;
+    }
+
+    static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
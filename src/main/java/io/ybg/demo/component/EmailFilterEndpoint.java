@@ -0,0 +1,28 @@
+package io.ybg.demo.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// GET /actuator/emailfilter : 상태, POST /actuator/emailfilter : rebuild
+@Component
+@Endpoint(id = "emailfilter")
+@RequiredArgsConstructor
+public class EmailFilterEndpoint {
+    private final EmailFilter emailFilter;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return emailFilter.stats();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        emailFilter.rebuild();
+        return emailFilter.stats();
+    }
+}
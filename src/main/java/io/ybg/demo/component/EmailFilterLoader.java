@@ -0,0 +1,44 @@
+package io.ybg.demo.component;
+
+import io.ybg.demo.config.MemberProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// InitDataLoader 이후 실행
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class EmailFilterLoader implements CommandLineRunner {
+    private final EmailFilter emailFilter;
+    private final MemberProperties memberProperties;
+    private final TaskScheduler taskScheduler;
+
+    @Override
+    public void run(final String... args) {
+        emailFilter.rebuild();
+        log.info("Email filter warmed up");
+
+        Duration interval = memberProperties.getEmailFilter().getRefreshInterval();
+        if (interval.isZero()) {
+            log.info("Email filter refresh disabled");
+            return;
+        }
+        taskScheduler.scheduleWithFixedDelay(this::refresh, interval);
+    }
+
+    // 예외로 주기 실행이 멈추지 않도록
+    private void refresh() {
+        try {
+            emailFilter.refresh();
+        } catch (RuntimeException e) {
+            log.warn("Email filter refresh failed : {}", e.toString());
+        }
+    }
+}
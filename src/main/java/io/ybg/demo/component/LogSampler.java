@@ -0,0 +1,50 @@
+package io.ybg.demo.component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 반복되는 경고 로그를 interval 당 limit 건으로 제한한다. (lock-free)
+ * <pre>
+ * long suppressed = sampler.acquire();
+ * if (suppressed >= 0) log.warn("... (suppressed {})", suppressed);
+ * </pre>
+ */
+public final class LogSampler {
+    private final long intervalNanos;
+    private final int limit;
+    private final LongSupplier nanoTime;
+
+    // 현재 window 시작 시각, window 안에서 acquire 한 횟수, 생략 누적
+    private final AtomicLong windowStart;
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogSampler(Duration interval, int limit) {
+        this(interval, limit, System::nanoTime);
+    }
+
+    LogSampler(Duration interval, int limit, LongSupplier nanoTime) {
+        this.intervalNanos = interval.toNanos();
+        this.limit = limit;
+        this.nanoTime = nanoTime;
+        this.windowStart = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * @return 로그를 남겨야 하면 직전까지 생략된 건수(0 이상), 생략해야 하면 -1
+     */
+    public long acquire() {
+        long now = nanoTime.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            acquired.set(0);
+        }
+        if (acquired.incrementAndGet() > limit) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,257 @@
+package io.ybg.demo.component;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * import 파일을 한 행씩 읽는다. 파일 전체를 메모리에 올리지 않으며 한 행은 max-line-length 문자까지만 보관한다.
+ * <ul>
+ *     <li>CSV : 첫 행은 header (email 필수, name, phone), 그 외 column 은 무시. 따옴표 안의 ',', '""', 줄바꿈 허용</li>
+ *     <li>NDJSON : 한 줄에 JSON object 1건 (email, name, phone), 그 외 field 는 무시</li>
+ * </ul>
+ * 형식이 잘못된 행은 error 와 함께 반환하고 다음 행을 계속 읽는다. 빈 행은 건너뛴다.
+ */
+public final class MemberImportReader implements Closeable {
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final ObjectMapper objectMapper;
+    // CSV header 의 email, name, phone 위치, NDJSON 이면 null
+    private final int[] columns;
+    private final int width;
+
+    private int pushback = NONE;
+    private long line;
+
+    /**
+     * @param line  행이 시작하는 줄 번호 (1부터, CSV header 포함)
+     * @param error null 이 아니면 member 는 null
+     */
+    public record Row(long line, MemberDTO.CreateMemberDTO member, String error) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Json(String email, String name, String phone) {
+    }
+
+    private record Record(long line, List<String> fields, String error) {
+    }
+
+    private MemberImportReader(Reader reader, int maxLineLength, ObjectMapper objectMapper, boolean csv) throws IOException {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        this.maxLineLength = maxLineLength;
+        this.objectMapper = objectMapper;
+        // UTF-8 BOM (Excel 저장 CSV 등) 제외
+        int first = this.reader.read();
+        if (first != BOM) {
+            pushback = first;
+        }
+        if (!csv) {
+            this.columns = null;
+            this.width = 0;
+            return;
+        }
+
+        Record header = readCsv();
+        if (header == null || header.error() != null) {
+            throw new InvalidMemberRequestException("CSV header is missing or malformed");
+        }
+        List<String> names = header.fields().stream()
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        this.columns = new int[]{names.indexOf("email"), names.indexOf("name"), names.indexOf("phone")};
+        this.width = names.size();
+        if (columns[0] < 0) {
+            throw new InvalidMemberRequestException("CSV header must contain email column");
+        }
+    }
+
+    /**
+     * header 를 바로 읽음
+     *
+     * @throws InvalidMemberRequestException header 가 없거나 email column 이 없음
+     */
+    public static MemberImportReader csv(Reader reader, int maxLineLength) throws IOException {
+        return new MemberImportReader(reader, maxLineLength, null, true);
+    }
+
+    public static MemberImportReader ndjson(Reader reader, int maxLineLength, ObjectMapper objectMapper) throws IOException {
+        return new MemberImportReader(reader, maxLineLength, objectMapper, false);
+    }
+
+    /**
+     * @return 다음 행, 끝이면 null
+     */
+    public Row next() throws IOException {
+        return columns != null ? nextCsv() : nextJson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row nextCsv() throws IOException {
+        Record record;
+        do {
+            record = readCsv();
+            if (record == null) {
+                return null;
+            }
+        } while (record.error() == null && record.fields().size() == 1 && record.fields().get(0).isEmpty());
+
+        if (record.error() != null) {
+            return new Row(record.line(), null, record.error());
+        }
+        List<String> fields = record.fields();
+        if (fields.size() != width) {
+            return new Row(record.line(), null, "Expected " + width + " columns but was " + fields.size());
+        }
+        return new Row(record.line(), new MemberDTO.CreateMemberDTO(field(fields, columns[0]), field(fields, columns[1]), field(fields, columns[2])), null);
+    }
+
+    private Row nextJson() throws IOException {
+        StringBuilder text = new StringBuilder();
+        String error;
+        long start;
+        do {
+            int c = read();
+            if (c == EOF) {
+                return null;
+            }
+            start = ++line;
+            text.setLength(0);
+            error = null;
+            while (c != EOF && !endOfLine(c)) {
+                if (text.length() < maxLineLength) {
+                    text.append((char) c);
+                } else {
+                    error = tooLong();
+                }
+                c = read();
+            }
+        } while (error == null && text.toString().isBlank());
+
+        if (error != null) {
+            return new Row(start, null, error);
+        }
+        try {
+            Json json = objectMapper.readValue(text.toString(), Json.class);
+            if (json == null) {
+                return new Row(start, null, "Malformed JSON");
+            }
+            return new Row(start, new MemberDTO.CreateMemberDTO(json.email(), json.name(), json.phone()), null);
+        } catch (JsonProcessingException e) {
+            return new Row(start, null, "Malformed JSON");
+        }
+    }
+
+    // 빈 문자열은 값 없음
+    private static String field(List<String> fields, int index) {
+        if (index < 0) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 record 1개, 끝이면 null
+    private Record readCsv() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        long start = ++line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        String error = null;
+
+        while (true) {
+            if (c == EOF) {
+                if (quoted) {
+                    error = "Unterminated quote";
+                }
+                break;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+                c = read();
+                continue;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+                c = read();
+                continue;
+            } else if (endOfLine(c)) {
+                break;
+            }
+
+            // 초과분은 버리고 행 끝까지 읽기만 함
+            if (++length <= maxLineLength) {
+                field.append((char) c);
+            } else if (error == null) {
+                error = tooLong();
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return new Record(start, fields, error);
+    }
+
+    // '\n', '\r\n', '\r' 을 줄 끝으로
+    private boolean endOfLine(int c) throws IOException {
+        if (c == '\n') {
+            return true;
+        }
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushback = next;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private String tooLong() {
+        return "Row exceeds " + maxLineLength + " characters";
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,194 @@
+package io.ybg.demo.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ybg.demo.dto.MemberDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * ingest 접수 기록. append-only, 한 줄에 JSON 1건.
+ * 접수(A) 는 fsync 이후 202 를 응답하고, 동시에 들어온 접수는 fsync 1회를 공유한다 (group commit).
+ * commit 완료(D) 는 batch 단위로 기록, 재시작 시 완료 기록이 없는 접수만 다시 읽는다.
+ * 처리 중인 접수가 없으면 파일을 비운다.
+ */
+@Slf4j
+public final class MemberIngestJournal implements Closeable {
+    private static final String ACCEPTED = "A";
+    private static final String DONE = "D";
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    // fsync 는 한 번에 하나, fsync 중에도 append 는 계속 (writeLock)
+    // 잠금 중 file IO 를 하므로 virtual thread 가 pinning 되지 않도록 synchronized 대신 ReentrantLock
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private long written;
+    private volatile long synced;
+
+    record Line(String t, UUID id, String email, String name, String phone) {
+    }
+
+    public record Pending(UUID id, MemberDTO.CreateMemberDTO member) {
+    }
+
+    public MemberIngestJournal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.written = channel.size();
+        this.synced = written;
+        channel.position(written);
+        // 기록 중 종료로 잘린 줄 뒤에 이어 쓰지 않도록 줄바꿈 보충
+        if (written > 0) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, written - 1);
+            if (last.get(0) != '\n') {
+                sync(append(new byte[]{'\n'}));
+            }
+        }
+    }
+
+    /**
+     * 완료 기록이 없는 접수, 접수 순서. 마지막 줄이 잘린 경우(기록 중 종료) 건너뜀
+     */
+    public List<Pending> replay() throws IOException {
+        writeLock.lock();
+        try {
+            Map<UUID, Pending> pending = new LinkedHashMap<>();
+            channel.position(0);
+            BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            String text;
+            while ((text = reader.readLine()) != null) {
+                if (text.isBlank()) {
+                    continue;
+                }
+                Line line;
+                try {
+                    line = objectMapper.readValue(text, Line.class);
+                } catch (JsonProcessingException e) {
+                    log.warn("Skip unreadable ingest journal line in {}", path);
+                    continue;
+                }
+                if (ACCEPTED.equals(line.t())) {
+                    pending.put(line.id(), new Pending(line.id(), new MemberDTO.CreateMemberDTO(line.email(), line.name(), line.phone())));
+                } else if (DONE.equals(line.t())) {
+                    pending.remove(line.id());
+                }
+            }
+            channel.position(written);
+            return new ArrayList<>(pending.values());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return 기록 끝 위치, sync 에 전달
+     */
+    public long accepted(UUID id, MemberDTO.CreateMemberDTO member) throws IOException {
+        return append(line(new Line(ACCEPTED, id, member.getEmail(), member.getName(), member.getPhone())));
+    }
+
+    // position 까지 디스크에 기록, 다른 thread 의 fsync 가 이미 포함했으면 생략
+    public void sync(long position) throws IOException {
+        if (synced >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (synced >= position) {
+                return;
+            }
+            long end = size();
+            channel.force(false);
+            synced = end;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // batch 당 fsync 1회
+    public void done(Collection<UUID> ids) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.size() * 48);
+        for (UUID id : ids) {
+            out.write(line(new Line(DONE, id, null, null, null)));
+        }
+        sync(append(out.toByteArray()));
+    }
+
+    /**
+     * idle(처리 중인 접수 없음) 이면 파일을 비움
+     */
+    public boolean compact(BooleanSupplier idle) throws IOException {
+        syncLock.lock();
+        writeLock.lock();
+        try {
+            if (written == 0 || !idle.getAsBoolean()) {
+                return false;
+            }
+            channel.truncate(0);
+            channel.position(0);
+            written = 0;
+            synced = 0;
+            return true;
+        } finally {
+            writeLock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    public long size() {
+        writeLock.lock();
+        try {
+            return written;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long append(byte[] bytes) throws IOException {
+        writeLock.lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            written += bytes.length;
+            return written;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private byte[] line(Line line) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(line);
+        byte[] bytes = Arrays.copyOf(json, json.length + 1);
+        bytes[json.length] = '\n';
+        return bytes;
+    }
+}
@@ -0,0 +1,143 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberOutboxEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.event.MemberChangesPublishedEvent;
+import io.ybg.demo.repository.MemberOutboxRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * member 변경 outbox.
+ * 쓰기 트랜잭션의 commit 직전에 변경 행을 추가하고 (rollback 되면 함께 사라짐),
+ * relay 가 주기적으로 기록 순서대로 seq 를 부여해 발행한다. seq 는 빈 번호 없이 이어지므로
+ * /member/v1/changes 의 since 이후 번호가 비어 있으면 보관 기간이 지나 삭제된 것이다.
+ */
+@Component
+@Order(4)
+@Slf4j
+public class MemberOutbox implements CommandLineRunner {
+
+    private final MemberOutboxRepo memberOutboxRepo;
+    private final MemberProperties.Outbox properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter published;
+    private final Counter conflicts;
+    // 기록 -> 발행 지연
+    private final Timer lag;
+
+    public MemberOutbox(MemberOutboxRepo memberOutboxRepo, MemberProperties memberProperties, ApplicationEventPublisher eventPublisher,
+                        TaskScheduler taskScheduler, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.memberOutboxRepo = memberOutboxRepo;
+        this.properties = memberProperties.getOutbox();
+        this.eventPublisher = eventPublisher;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.published = Counter.builder("member.outbox.published").register(meterRegistry);
+        this.conflicts = Counter.builder("member.outbox.conflicts").register(meterRegistry);
+        this.lag = Timer.builder("member.outbox.lag").register(meterRegistry);
+    }
+
+    // 쓰기와 같은 트랜잭션, flush 는 commit 시 jdbc batch
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMemberChanged(MemberChangedEvent event) {
+        memberOutboxRepo.saveAll(event.ids().stream()
+                .map(id -> MemberOutboxEntity.builder().memberId(id).type(event.type()).build())
+                .toList());
+    }
+
+    @Override
+    public void run(final String... args) {
+        if (properties.getRelayInterval().isZero()) {
+            log.info("Member outbox relay disabled");
+            return;
+        }
+        taskScheduler.scheduleWithFixedDelay(this::relayAll, properties.getRelayInterval());
+        taskScheduler.scheduleWithFixedDelay(this::cleanup, properties.getCleanupInterval());
+    }
+
+    /**
+     * 발행 대기 변경을 최대 batch-size 건 발행.
+     * 다른 instance 의 relay 와 겹치면 (version, seq unique) 나중 commit 이 rollback 되고 다음 주기에 다시 시도한다.
+     *
+     * @return 발행 건수
+     */
+    public int relay() {
+        List<MemberOutboxEntity> relayed;
+        try {
+            relayed = transactionTemplate.execute(status -> {
+                List<MemberOutboxEntity> pending = memberOutboxRepo.findUnpublished(Limit.of(properties.getBatchSize()));
+                if (pending.isEmpty()) {
+                    return pending;
+                }
+                long seq = memberOutboxRepo.findMaxSeq();
+                LocalDateTime now = LocalDateTime.now();
+                List<MemberDTO.ChangeDTO> changes = new ArrayList<>(pending.size());
+                for (MemberOutboxEntity change : pending) {
+                    change.setSeq(++seq);
+                    change.setPub_dt(now);
+                    changes.add(new MemberDTO.ChangeDTO(change.getSeq(), change.getType(), change.getMemberId(), change.getReg_dt(), null));
+                }
+                memberOutboxRepo.flush();
+                eventPublisher.publishEvent(new MemberChangesPublishedEvent(changes));
+                return pending;
+            });
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            conflicts.increment();
+            log.debug("Member outbox relayed by another instance : {}", e.toString());
+            return 0;
+        }
+
+        List<MemberOutboxEntity> done = Objects.requireNonNullElse(relayed, List.of());
+        done.forEach(change -> lag.record(Duration.between(change.getReg_dt(), change.getPub_dt())));
+        published.increment(done.size());
+        return done.size();
+    }
+
+    // 보관 기간이 지난 발행 변경 삭제
+    public int cleanup() {
+        int deleted = memberOutboxRepo.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention()),
+                memberOutboxRepo.findMaxSeq());
+        if (deleted > 0) {
+            log.info("Member outbox cleanup : {} changes older than {}", deleted, properties.getRetention());
+        }
+        return deleted;
+    }
+
+    // 밀려 있으면 batch 가 덜 찰 때까지 이어서 발행
+    private void relayAll() {
+        try {
+            while (relay() == properties.getBatchSize()) {
+                log.debug("Member outbox backlog, relaying next batch");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Member outbox relay failed : {}", e.toString());
+        }
+    }
+}
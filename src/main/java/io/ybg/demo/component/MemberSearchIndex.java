@@ -0,0 +1,173 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * /member/v1/search 의 index 관리.
+ * PostgreSQL 은 pg_trgm GIN index 를 만들고 DB 쿼리로 검색, 그 외(H2) 는 in-memory trigram index 를 사용한다.
+ * in-memory index 는 이 instance 의 쓰기만 반영하므로 단일 instance(개발, 테스트) 용.
+ */
+@Component
+@Slf4j
+public class MemberSearchIndex {
+    private static final String TRIGRAM_SCRIPT = "db/member-search-postgresql.sql";
+
+    private final MemberRepo memberRepo;
+    private final DataSource dataSource;
+    private final MemberProperties.Search properties;
+
+    private volatile Boolean postgres;
+    private volatile MemberTrigramIndex current;
+    // 생성/수정된 id, 다음 검색 시 한 번에 다시 읽음 -> 쓰기 요청에 조회가 추가되지 않음
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    // rebuild 중 변경된 id, 교체 후 pending 으로 넘겨 stream 의 이전 값을 덮어씀
+    private volatile Set<Long> changedWhileBuilding;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public MemberSearchIndex(MemberRepo memberRepo, DataSource dataSource, MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        this.memberRepo = memberRepo;
+        this.dataSource = dataSource;
+        this.properties = memberProperties.getSearch();
+
+        Gauge.builder("member.search.index.size", this, i -> i.current == null ? 0 : i.current.size()).register(meterRegistry);
+    }
+
+    public record Result(List<Long> ids, boolean partial) {
+    }
+
+    public MemberProperties.Search.Engine engine() {
+        if (properties.getEngine() != MemberProperties.Search.Engine.AUTO) {
+            return properties.getEngine();
+        }
+        return isPostgres() ? MemberProperties.Search.Engine.DATABASE : MemberProperties.Search.Engine.MEMORY;
+    }
+
+    public boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            try {
+                result = "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+            } catch (MetaDataAccessException e) {
+                log.warn("Database product unknown, search uses in-memory index : {}", e.getMessage());
+                result = false;
+            }
+            postgres = result;
+        }
+        return result;
+    }
+
+    // in-memory index 준비 완료 여부
+    public boolean isReady() {
+        return current != null;
+    }
+
+    // 실패해도 검색은 동작 (index 없이 순차 scan)
+    public void createTrigramIndexes() {
+        try {
+            new ResourceDatabasePopulator(new ClassPathResource(TRIGRAM_SCRIPT)).execute(dataSource);
+            log.info("Member search trigram indexes ready");
+        } catch (DataAccessException e) {
+            log.warn("Member search trigram indexes not created, search falls back to sequential scan : {}", e.getMessage());
+        }
+    }
+
+    // stream 중 lock 을 잡으므로 virtual thread 가 pinning 되지 않도록 ReentrantLock
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            MemberTrigramIndex next = new MemberTrigramIndex();
+            Set<Long> changed = ConcurrentHashMap.newKeySet();
+            changedWhileBuilding = changed;
+            try (Stream<MemberDTO.InfoMemberDTO> members = memberRepo.streamAllInfo()) {
+                members.forEach(m -> next.put(m.getId(), m.getName(), m.getEmail(), m.getPhone()));
+                // 교체 후에는 onMemberChanged 가 pending 에 직접 기록, 그 전 변경은 pending 으로 넘겨 다음 검색에서 다시 읽음
+                current = next;
+                pending.addAll(changed);
+            } finally {
+                changedWhileBuilding = null;
+            }
+            log.info("Member search index rebuilt : {} members, {} ms", next.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * commit 된 변경만 반영 (rollback 시 전달되지 않음), 트랜잭션 없이 발행된 이벤트도 받음 (fallbackExecution).
+     * 삭제는 바로 제거, 생성/수정은 다음 검색에서 다시 읽는다. 같은 instance 의 다음 검색부터 보인다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        Set<Long> changed = changedWhileBuilding;
+        if (changed != null) {
+            changed.addAll(event.ids());
+        }
+        MemberTrigramIndex index = current;
+        if (index == null) {
+            return;
+        }
+        if (event.type() == MemberChangedEvent.Type.DELETED) {
+            event.ids().forEach(index::remove);
+        } else {
+            pending.addAll(event.ids());
+        }
+    }
+
+    /**
+     * 점수 순 id.
+     *
+     * @param limit    offset + size + 1
+     * @param deadline System.nanoTime 기준
+     */
+    public Result search(String term, boolean phone, int limit, long deadline) {
+        MemberTrigramIndex index = current;
+        if (index == null) {
+            return new Result(List.of(), true);
+        }
+        if (!pending.isEmpty()) {
+            List<Long> ids = new ArrayList<>(pending);
+            pending.removeAll(ids);
+            refresh(index, ids);
+        }
+        MemberTrigramIndex.Result result = index.search(term, phone, limit, deadline);
+        return new Result(result.hits().stream().map(MemberTrigramIndex.Hit::id).toList(), result.partial());
+    }
+
+    private void refresh(MemberTrigramIndex index, Collection<Long> ids) {
+        Map<Long, MemberDTO.InfoMemberDTO> members = memberRepo.findInfoByIdIn(ids).stream()
+                .collect(Collectors.toMap(MemberDTO.InfoMemberDTO::getId, Function.identity()));
+        for (Long id : ids) {
+            MemberDTO.InfoMemberDTO m = members.get(id);
+            if (m == null) {
+                index.remove(id);
+            } else {
+                index.put(id, m.getName(), m.getEmail(), m.getPhone());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.ybg.demo.component;
+
+import io.ybg.demo.config.MemberProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// InitDataLoader 이후 실행 (ddl-auto 로 테이블이 만들어진 뒤)
+@Component
+@Order(3)
+@RequiredArgsConstructor
+@Slf4j
+public class MemberSearchIndexLoader implements CommandLineRunner {
+    private final MemberSearchIndex memberSearchIndex;
+
+    @Override
+    public void run(final String... args) {
+        MemberProperties.Search.Engine engine = memberSearchIndex.engine();
+        if (engine == MemberProperties.Search.Engine.MEMORY) {
+            memberSearchIndex.rebuild();
+        } else if (memberSearchIndex.isPostgres()) {
+            memberSearchIndex.createTrigramIndexes();
+        }
+        log.info("Member search engine : {}", engine);
+    }
+}
@@ -0,0 +1,59 @@
+package io.ybg.demo.component;
+
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.entity.MemberTombstoneEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.repository.MemberTombstoneRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 기록 (tombstone). 삭제 트랜잭션의 commit 직전에 추가 (rollback 되면 함께 사라짐),
+ * member.delta.tombstone-retention 이 지난 기록은 주기적으로 삭제한다.
+ */
+@Component
+@Order(5)
+@RequiredArgsConstructor
+@Slf4j
+public class MemberTombstones implements CommandLineRunner {
+
+    private final MemberTombstoneRepo memberTombstoneRepo;
+    private final MemberProperties memberProperties;
+    private final TaskScheduler taskScheduler;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.type() != MemberChangedEvent.Type.DELETED) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        memberTombstoneRepo.saveAll(event.ids().stream()
+                .map(id -> MemberTombstoneEntity.builder().id(id).del_dt(now).build())
+                .toList());
+    }
+
+    // 시작 직후가 아닌 한 주기 뒤부터 실행
+    @Override
+    public void run(final String... args) {
+        MemberProperties.Delta delta = memberProperties.getDelta();
+        taskScheduler.scheduleWithFixedDelay(this::cleanup, Instant.now().plus(delta.getCleanupInterval()), delta.getCleanupInterval());
+    }
+
+    public int cleanup() {
+        MemberProperties.Delta delta = memberProperties.getDelta();
+        int deleted = memberTombstoneRepo.deleteBefore(LocalDateTime.now().minus(delta.getTombstoneRetention()));
+        if (deleted > 0) {
+            log.info("Member tombstone cleanup : {} older than {}", deleted, delta.getTombstoneRetention());
+        }
+        return deleted;
+    }
+}
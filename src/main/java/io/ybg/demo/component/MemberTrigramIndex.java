@@ -0,0 +1,171 @@
+package io.ybg.demo.component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * name/email/phone 부분 문자열 검색용 trigram 역색인 (pg_trgm 이 없는 DB 용).
+ * trigram 교집합으로 후보를 줄인 뒤 실제 포함 여부로 확인하며, 3글자 미만 검색어는 pg_trgm 과 같이 전체를 훑는다.
+ * 점수는 MemberRepo 의 검색 쿼리와 같은 기준 : 일치 1.0, 접두 0.9, 포함 0.5 ~ 0.8 (필드 대비 검색어 길이)
+ */
+final class MemberTrigramIndex {
+    private static final Comparator<Hit> RANK = Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id);
+    // deadline 확인 간격 (문서 수)
+    private static final int DEADLINE_CHECK_MASK = 0xFF;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Doc(String name, String email, String phone) {
+    }
+
+    record Hit(long id, double score) {
+    }
+
+    record Result(List<Hit> hits, boolean partial) {
+    }
+
+    void put(long id, String name, String email, String phone) {
+        Doc doc = new Doc(text(name), text(email), phone(phone));
+        lock.writeLock().lock();
+        try {
+            Doc prev = docs.put(id, doc);
+            if (prev != null) {
+                unindex(id, prev);
+            }
+            for (String gram : grams(doc)) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Doc prev = docs.remove(id);
+            if (prev != null) {
+                unindex(id, prev);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 순 상위 limit 건. deadline(System.nanoTime 기준) 을 넘기면 그때까지 확인한 문서로 결과를 만든다.
+     *
+     * @param term  정규화된 검색어 (소문자, phone 이면 숫자만)
+     * @param phone true 면 phone 만, 아니면 name/email 검색
+     */
+    Result search(String term, boolean phone, int limit, long deadline) {
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANK.reversed());
+        boolean partial = false;
+        lock.readLock().lock();
+        try {
+            int checked = 0;
+            for (Long id : candidates(term)) {
+                if ((++checked & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadline > 0) {
+                    partial = true;
+                    break;
+                }
+                Doc doc = docs.get(id);
+                double score = phone ? score(doc.phone(), term) : Math.max(score(doc.name(), term), score(doc.email(), term));
+                if (score > 0) {
+                    top.offer(new Hit(id, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANK);
+        return new Result(hits, partial);
+    }
+
+    // 가장 작은 posting 부터 교집합
+    private Collection<Long> candidates(String term) {
+        if (term.length() < 3) {
+            return docs.keySet();
+        }
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : grams(term, new HashSet<>())) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            sets.add(ids);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+        for (Long id : sets.getFirst()) {
+            if (sets.stream().skip(1).allMatch(s -> s.contains(id))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private void unindex(long id, Doc doc) {
+        for (String gram : grams(doc)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(Doc doc) {
+        Set<String> grams = new HashSet<>();
+        grams(doc.name(), grams);
+        grams(doc.email(), grams);
+        grams(doc.phone(), grams);
+        return grams;
+    }
+
+    private static Set<String> grams(String value, Set<String> grams) {
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            grams.add(value.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    static double score(String field, String term) {
+        if (field.isEmpty()) {
+            return 0;
+        }
+        if (field.equals(term)) {
+            return 1.0;
+        }
+        if (field.startsWith(term)) {
+            return 0.9;
+        }
+        if (field.contains(term)) {
+            return 0.5 + 0.3 * term.length() / field.length();
+        }
+        return 0;
+    }
+
+    static String text(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // DB 쿼리의 replace(phone, '-', '') 와 같음
+    static String phone(String value) {
+        return value == null ? "" : value.replace("-", "");
+    }
+}
@@ -0,0 +1,139 @@
+package io.ybg.demo.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.exception.OverloadedException;
+import io.ybg.demo.exception.RateLimitedException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * /member/** 요청 제한. controller 실행 전에 거절하므로 DB connection 을 잡지 않는다.
+ * <ul>
+ *     <li>client(remote address, trust-client-header=true 면 client-header) x 정책 별 RateLimiter : 초과 시 429 + Retry-After</li>
+ *     <li>전체 동시 처리 한도 (AdaptiveConcurrencyLimiter) : 응답 시간이 늘면 한도를 줄여 503</li>
+ * </ul>
+ * metric : member.ratelimit.rejected(policy), member.ratelimit.clients(policy),
+ * member.concurrency.limit, member.concurrency.inflight, member.concurrency.rejected
+ * bean 등록은 RateLimitConfig
+ */
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String STARTED = RateLimitInterceptor.class.getName() + ".started";
+    private static final int MAX_CLIENT_LENGTH = 64;
+
+    private final MemberProperties.RateLimit properties;
+    private final List<Policy> policies;
+    // enabled=false 면 null
+    private final AdaptiveConcurrencyLimiter concurrency;
+    private final Counter concurrencyRejected;
+
+    private record Policy(MemberProperties.Policy config, PathPattern pattern, Cache<String, RateLimiter> clients, Counter rejected) {
+
+        boolean matches(HttpServletRequest request, PathContainer path) {
+            return (config.getMethod() == null || config.getMethod().equalsIgnoreCase(request.getMethod())) && pattern.matches(path);
+        }
+    }
+
+    public RateLimitInterceptor(MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        this.properties = memberProperties.getRateLimit();
+        this.policies = properties.getPolicies().stream().map(config -> {
+            // 설정 오류는 시작 시 드러나도록 미리 생성
+            new RateLimiter(config.getRate(), config.getBurst());
+            Cache<String, RateLimiter> clients = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxClients())
+                    .expireAfterAccess(properties.getClientTtl())
+                    .build();
+            Gauge.builder("member.ratelimit.clients", clients, Cache::estimatedSize).tag("policy", config.getName()).register(meterRegistry);
+            Counter rejected = Counter.builder("member.ratelimit.rejected").tag("policy", config.getName()).register(meterRegistry);
+            return new Policy(config, PathPatternParser.defaultInstance.parse(config.getPattern()), clients, rejected);
+        }).toList();
+
+        MemberProperties.Concurrency limit = properties.getConcurrency();
+        this.concurrency = limit.isEnabled()
+                ? new AdaptiveConcurrencyLimiter(limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(), limit.getMaxLatency(), limit.getBackoff())
+                : null;
+        this.concurrencyRejected = Counter.builder("member.concurrency.rejected").register(meterRegistry);
+        if (concurrency != null) {
+            Gauge.builder("member.concurrency.limit", concurrency, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+            Gauge.builder("member.concurrency.inflight", concurrency, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async 재 dispatch 는 처음 요청에서 이미 통과
+        if (!properties.isEnabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        Policy policy = policy(request);
+        if (policy != null) {
+            long wait = policy.clients()
+                    .get(client(request), key -> new RateLimiter(policy.config().getRate(), policy.config().getBurst()))
+                    .tryAcquire();
+            if (wait > 0) {
+                policy.rejected().increment();
+                throw new RateLimitedException(policy.config().getName(), Duration.ofNanos(wait));
+            }
+        }
+
+        if (concurrency != null) {
+            long started = concurrency.tryAcquire();
+            if (started < 0) {
+                concurrencyRejected.increment();
+                throw new OverloadedException(concurrency.getLimit(), properties.getConcurrency().getRetryAfter());
+            }
+            request.setAttribute(STARTED, started);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED) instanceof Long started) {
+            request.removeAttribute(STARTED);
+            concurrency.release(started);
+        }
+    }
+
+    // StreamingResponseBody 등 async 처리 : 전송 시간은 응답 시간으로 반영하지 않고 바로 반환
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(STARTED) != null) {
+            request.removeAttribute(STARTED);
+            concurrency.releaseWithoutSample();
+        }
+    }
+
+    private Policy policy(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Policy policy : policies) {
+            if (policy.matches(request, path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    // header 는 client 가 임의로 바꿀 수 있으므로 앞단 gateway 가 덮어쓰는 경우(trust-client-header)에만 사용
+    private String client(HttpServletRequest request) {
+        String header = !properties.isTrustClientHeader() || properties.getClientHeader() == null
+                ? null : request.getHeader(properties.getClientHeader());
+        if (header == null || header.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        return header.length() > MAX_CLIENT_LENGTH ? header.substring(0, MAX_CLIENT_LENGTH) : header;
+    }
+}
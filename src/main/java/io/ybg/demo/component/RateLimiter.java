@@ -0,0 +1,53 @@
+package io.ybg.demo.component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 rate 건, 연속 burst 건까지 허용 (GCRA : token bucket 과 같은 결과, 상태는 다음 허용 시각 1개). lock-free
+ * <pre>
+ * long wait = limiter.tryAcquire();
+ * if (wait > 0) // wait nanos 뒤 재시도
+ * </pre>
+ */
+public final class RateLimiter {
+    private final long intervalNanos;
+    // burst 건까지 앞당겨 허용
+    private final long toleranceNanos;
+    private final LongSupplier nanoTime;
+
+    // theoretical arrival time : 요청이 rate 대로 왔다면 다음 요청이 올 시각
+    private final AtomicLong tat;
+
+    public RateLimiter(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    RateLimiter(double ratePerSecond, int burst, LongSupplier nanoTime) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.toleranceNanos = intervalNanos * burst;
+        this.nanoTime = nanoTime;
+        this.tat = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * @return 허용이면 0, 거절이면 다음 허용까지 남은 nanos
+     */
+    public long tryAcquire() {
+        long now = nanoTime.getAsLong();
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
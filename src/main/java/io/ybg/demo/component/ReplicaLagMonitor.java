@@ -0,0 +1,73 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.config.MemberProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * replica 지연을 주기적으로 확인한다. (ReplicaDataSourceConfig 에서 등록)
+ * 지연이 member.datasource.replica.max-lag 이상이거나 확인에 실패하면 다음 확인까지 primary 만 사용한다.
+ * 최초 확인 전에도 primary 를 사용한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final MemberProperties.Replica properties;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, MemberProperties.Replica properties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.properties = properties;
+        Gauge.builder("member.datasource.replica.lag", this, m -> m.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("member.datasource.replica.available", this, m -> m.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+            update(rs.next() ? rs.getDouble(1) : Double.NaN);
+        } catch (SQLException e) {
+            markDown(e);
+        }
+    }
+
+    // replica connection 획득 실패 시 ReplicaRoutingDataSource 에서도 호출
+    public void markDown(Exception e) {
+        if (available) {
+            log.warn("Replica unavailable, routing reads to primary : {}", e.toString());
+        }
+        available = false;
+        lagSeconds = Double.NaN;
+    }
+
+    private void update(double lag) {
+        boolean ok = !Double.isNaN(lag) && lag * 1000 < properties.getMaxLag().toMillis();
+        if (ok != available) {
+            if (ok) {
+                log.info("Replica available, lag {} s", lag);
+            } else {
+                log.warn("Replica lag {} s exceeds {}, routing reads to primary", lag, properties.getMaxLag());
+            }
+        }
+        lagSeconds = lag;
+        available = ok;
+    }
+}
@@ -0,0 +1,60 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외(쓰기, 트랜잭션 밖)는 primary 로 보낸다.
+ * readOnly 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ * replica 가 지연/장애 상태이거나 connection 획득에 실패하면 primary 로 fallback 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {PRIMARY, REPLICA}
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.primaryRoutes = Counter.builder("member.datasource.route").tag("target", "primary").register(meterRegistry);
+        this.replicaRoutes = Counter.builder("member.datasource.route").tag("target", "replica").register(meterRegistry);
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isAvailable()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markDown(e);
+            }
+        }
+        primaryRoutes.increment();
+        return primary.getConnection();
+    }
+}
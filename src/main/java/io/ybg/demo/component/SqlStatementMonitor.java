@@ -0,0 +1,158 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ybg.demo.config.MemberProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource proxy(datasource-proxy) 로 실행되는 SQL 을 계측한다.
+ * <ul>
+ *     <li>db.sql.statements : 구문 종류(select/insert/...)별 실행 시간</li>
+ *     <li>http.server.sql.statements, http.server.sql.time : 요청(controller method) 당 구문 수, 누적 시간</li>
+ * </ul>
+ * 느린 쿼리는 WARN 으로 남기고, 한 요청에서 같은 SELECT 가 반복되면 N+1 로 보고 경고(테스트에서는 실패) 한다.
+ * bean 등록은 SqlMetricsConfig
+ */
+@Slf4j
+public class SqlStatementMonitor implements QueryExecutionListener, AsyncHandlerInterceptor {
+
+    private final MemberProperties.Sql properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Long> started = new ThreadLocal<>();
+    private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+
+    public SqlStatementMonitor(MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        this.properties = memberProperties.getSql();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        started.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = started.get();
+        started.remove();
+        long elapsed = start == null ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()) : System.nanoTime() - start;
+        String query = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+        String type = type(query);
+
+        Timer.builder("db.sql.statements")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= properties.getSlowThreshold().toNanos()) {
+            log.warn("Slow query {} ms{} : {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    execInfo.isBatch() ? " (batch " + execInfo.getBatchSize() + ")" : "", query);
+        }
+
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.record(elapsed);
+            // batch 실행, insert/update 는 N+1 대상 아님
+            if (!execInfo.isBatch() && type.equals("select")) {
+                checkRepeat(stats, query);
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            current.set(new RequestStats(method.getBeanType().getSimpleName() + "#" + method.getMethod().getName()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        end();
+    }
+
+    // StreamingResponseBody 등 async 처리 시 afterCompletion 대신 호출, 이후 구문은 요청 thread 밖에서 실행
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        end();
+    }
+
+    private void end() {
+        RequestStats stats = current.get();
+        if (stats == null) {
+            return;
+        }
+        current.remove();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .tag("handler", stats.handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.count);
+        Timer.builder("http.server.sql.time")
+                .tag("handler", stats.handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void checkRepeat(RequestStats stats, String query) {
+        int count = stats.repeats.merge(query, 1, Integer::sum);
+        if (count != properties.getRepeatThreshold()) {
+            return;
+        }
+        String message = "Query repeated " + count + " times in " + stats.handler + " (possible N+1) : " + query;
+        if (properties.isFailOnRepeat()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String type(String query) {
+        String trimmed = query.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> "select";
+            case "insert" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+
+    private static final class RequestStats {
+        private final String handler;
+        private final Map<String, Integer> repeats = new HashMap<>();
+        private int count;
+        private long nanos;
+
+        private RequestStats(String handler) {
+            this.handler = handler;
+        }
+
+        private void record(long elapsed) {
+            count++;
+            nanos += elapsed;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ybg.demo.config.MemberProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * virtual thread 가 carrier thread 에 고정(pinning)되는 구간을 JFR(jdk.VirtualThreadPinned) 로 감지한다.
+ * synchronized 안의 blocking IO(driver, logging 등)가 원인인 경우가 대부분이며
+ * 같은 stack 은 최초 1회만 WARN 으로 남기고 이후는 metric 으로만 집계한다.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    private final MemberProperties.Pinning properties;
+    private final Counter pinned;
+    private final Timer pinnedTime;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        this.properties = memberProperties.getPinning();
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+        this.pinnedTime = Timer.builder("jvm.threads.virtual.pinned.duration").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold {})", properties.getThreshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinned.increment();
+        pinnedTime.record(duration);
+
+        String stack = format(event.getStackTrace());
+        if (reported.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms\n{}", duration.toMillis(), stack);
+        }
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,12 @@
+package io.ybg.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// spring.threads.virtual.enabled=true 이면 @Async, @Scheduled 모두 virtual thread 로 실행
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,42 @@
+package io.ybg.demo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// cache 를 트랜잭션 바깥에 둠 -> hit 시 트랜잭션/connection 없음, evict 는 commit 이후
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class CacheConfig {
+    public static final String MEMBER = "member";
+    public static final String MEMBER_EMAIL = "memberEmail";
+    public static final String MEMBER_UUID = "memberUuid";
+    public static final String MEMBER_LIST_VERSION = "memberListVersion";
+
+    private final MemberProperties memberProperties;
+
+    @Bean
+    public CaffeineCacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 미리 등록된 cache 만 사용 -> actuator cache metrics 자동 바인딩
+        cacheManager.registerCustomCache(MEMBER, build(memberProperties.getCache().getMember()));
+        cacheManager.registerCustomCache(MEMBER_EMAIL, build(memberProperties.getCache().getEmail()));
+        cacheManager.registerCustomCache(MEMBER_UUID, build(memberProperties.getCache().getUuid()));
+        cacheManager.registerCustomCache(MEMBER_LIST_VERSION, build(memberProperties.getCache().getListVersion()));
+        return cacheManager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> build(MemberProperties.CacheSpec spec) {
+        // W-TinyLFU, 통계(hit/miss/eviction) 기록
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+    }
+}
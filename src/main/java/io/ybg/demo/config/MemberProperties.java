@@ -0,0 +1,273 @@
+package io.ybg.demo.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member")
+public class MemberProperties {
+
+    private final Page page = new Page();
+    private final Cache cache = new Cache();
+    private final EmailFilter emailFilter = new EmailFilter();
+    private final Batch batch = new Batch();
+    private final Pinning pinning = new Pinning();
+    private final Reactive reactive = new Reactive();
+    private final Sql sql = new Sql();
+    private final Datasource datasource = new Datasource();
+    private final HttpCache httpCache = new HttpCache();
+    private final Search search = new Search();
+    private final Ingest ingest = new Ingest();
+    private final Outbox outbox = new Outbox();
+    private final Delta delta = new Delta();
+    private final Transfer transfer = new Transfer();
+    private final RateLimit rateLimit = new RateLimit();
+
+    @Getter
+    @Setter
+    public static class Page {
+        // cursor 페이지 기본/최대 크기
+        private int defaultSize = 20;
+        private int maxSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // id -> member, email -> 존재 여부, uuid -> id
+        private final CacheSpec member = new CacheSpec(10_000, Duration.ofMinutes(10));
+        private final CacheSpec email = new CacheSpec(50_000, Duration.ofMinutes(10));
+        private final CacheSpec uuid = new CacheSpec(50_000, Duration.ofHours(1));
+        // 목록 version, 다른 instance 의 쓰기는 ttl 만큼 늦게 반영
+        private final CacheSpec listVersion = new CacheSpec(1, Duration.ofSeconds(1));
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheSpec {
+        private long maxSize;
+        private Duration ttl;
+    }
+
+    @Getter
+    @Setter
+    public static class EmailFilter {
+        private boolean enabled = true;
+        // 실제 건수 * 2 와 비교해 큰 값으로 생성
+        private long expectedInsertions = 1_000_000;
+        private double fpp = 0.01;
+        // 다른 instance 의 쓰기를 outbox 발행 변경에서 반영하는 주기, 0 이면 주기 실행 안 함 (단일 instance)
+        private Duration refreshInterval = Duration.ofSeconds(1);
+        // refresh 1회 조회 건수
+        private int refreshBatchSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        // hibernate.jdbc.batch_size 와 맞춤
+        private int chunkSize = 500;
+        private int maxItems = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Pinning {
+        // virtual thread pinning 감지 (spring.threads.virtual.enabled=true 일 때만)
+        private boolean enabled = true;
+        private Duration threshold = Duration.ofMillis(20);
+    }
+
+    @Getter
+    @Setter
+    public static class Reactive {
+        // /member/v2 (r2dbc) 읽기 전용 API
+        private boolean enabled = false;
+        // docker compose 사용 시 생략 가능
+        private String url;
+        private String username;
+        private String password;
+        private int initialSize = 5;
+        private int maxSize = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Sql {
+        // 이 시간 이상 걸린 구문은 WARN 로그
+        private Duration slowThreshold = Duration.ofMillis(200);
+        // 한 요청에서 같은 SELECT 가 이 횟수만큼 반복되면 N+1 로 판단
+        private int repeatThreshold = 10;
+        // true 면 N+1 감지 시 예외 (테스트용)
+        private boolean failOnRepeat = false;
+    }
+
+    @Getter
+    @Setter
+    public static class HttpCache {
+        // GET /member/v1 Cache-Control : 브라우저는 매번 재검증, CDN 은 s-maxage 동안 공유
+        private Duration maxAge = Duration.ZERO;
+        private Duration sMaxAge = Duration.ofSeconds(5);
+        // false 면 private (CDN 캐시 금지)
+        private boolean shared = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        // auto : PostgreSQL 이면 pg_trgm index 쿼리, 그 외(H2) 는 in-memory trigram index
+        private Engine engine = Engine.AUTO;
+        private int minLength = 2;
+        private int maxLength = 64;
+        private int defaultSize = 20;
+        private int maxSize = 100;
+        // (page + 1) * size 상한, 점수 순 offset 페이지라 깊은 페이지를 막음
+        private int maxResults = 1_000;
+        // 초과 시 그때까지의 결과만 반환 (partial)
+        private Duration timeout = Duration.ofMillis(200);
+
+        public enum Engine {
+            AUTO, DATABASE, MEMORY
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Ingest {
+        // true 면 POST /member/v1/ingest (비동기 가입, 202 + tracking id) 활성화
+        private boolean enabled = false;
+        // 접수 후 commit 전 최대 건수, 초과 시 429
+        private int capacity = 10_000;
+        // 한 번에 commit 할 최대 건수, member.batch.chunk-size 이하 (1 트랜잭션)
+        private int batchSize = 500;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        // DB 오류 시 같은 batch 재시도 간격
+        private Duration retryInterval = Duration.ofSeconds(1);
+        // 접수 기록 (append-only), 재시작 시 commit 되지 않은 요청 재적재
+        private String journal = "data/member-ingest.journal";
+        // 처리 결과 조회 보관
+        private long statusMaxSize = 100_000;
+        private Duration statusTtl = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        // 발행 대기 변경을 seq 부여해 /member/v1/changes 에 노출하는 주기, 0 이면 주기 실행 안 함
+        private Duration relayInterval = Duration.ofSeconds(1);
+        // relay 1회(1 트랜잭션) 최대 건수
+        private int batchSize = 500;
+        // 발행 후 보관 기간, 이보다 오래된 since 는 410 (목록 재동기화)
+        private Duration retention = Duration.ofDays(7);
+        private Duration cleanupInterval = Duration.ofHours(1);
+        private int defaultSize = 100;
+        private int maxSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Delta {
+        // /member/v1/modified-since 페이지 크기
+        private int defaultSize = 100;
+        private int maxSize = 1_000;
+        // 현재 - settle 이전 변경만 반환 -> commit 이 늦은 쓰기(mod_dt 가 commit 보다 이름)를 건너뛰지 않음
+        private Duration settle = Duration.ofSeconds(2);
+        // 이보다 오래된 since 는 삭제 기록이 없을 수 있으므로 410 (목록 재동기화)
+        private Duration tombstoneRetention = Duration.ofDays(30);
+        private Duration cleanupInterval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Transfer {
+        // /member/v1/import 결과에 담을 오류 행 수, 초과분은 건수만 집계
+        private int maxErrors = 1_000;
+        // CSV record / NDJSON 한 줄 최대 문자 수, 초과 행은 INVALID
+        private int maxLineLength = 4_096;
+        // import 1건 처리 제한 시간 (spring.mvc.async.request-timeout 대신 적용)
+        private Duration timeout = Duration.ofHours(1);
+        // 진행 상황 조회용 보관
+        private long statusMaxSize = 1_000;
+        private Duration statusTtl = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        // /member/** client 별 요청 수 제한 + 동시 처리 한도
+        private boolean enabled = true;
+        // API gateway 가 설정하는 client 식별 header, trust-client-header=true 일 때만 사용 (그 외 remote address)
+        private String clientHeader = "X-Client-Id";
+        // client 가 보낸 header 를 gateway 가 덮어쓰는 구성에서만 true
+        private boolean trustClientHeader = false;
+        // 정책 당 추적할 최대 client 수, 마지막 요청 후 client-ttl 이 지나면 제거
+        private long maxClients = 100_000;
+        private Duration clientTtl = Duration.ofMinutes(10);
+        // 위에서부터 처음 일치하는 정책 하나만 적용
+        private List<Policy> policies = new ArrayList<>(List.of(
+                new Policy("email-check", null, "/member/v1/email/check/**", 20, 40),
+                new Policy("list", "GET", "/member/v1", 2, 5),
+                new Policy("transfer", null, "/member/v1/{transfer:import|export}", 0.1, 2),
+                new Policy("default", null, "/member/**", 100, 200)));
+        private final Concurrency concurrency = new Concurrency();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private String name;
+        // null 이면 모든 method
+        private String method;
+        private String pattern;
+        // client 당 초당 허용 건수, 연속 허용 건수
+        private double rate;
+        private int burst;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        // 응답 시간이 max-latency 를 넘으면 한도를 줄여 DB pool 대기열이 쌓이기 전에 503
+        private boolean enabled = true;
+        private int initialLimit = 50;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+        private Duration maxLatency = Duration.ofMillis(250);
+        private double backoff = 0.9;
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Datasource {
+        private final Replica replica = new Replica();
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        // 설정 시 readOnly 트랜잭션을 replica 로 라우팅
+        private String url;
+        // 생략 시 spring.datasource 값 사용
+        private String username;
+        private String password;
+        // 지연이 이 값 이상이거나 확인 실패 시 primary 로 fallback
+        private Duration maxLag = Duration.ofSeconds(5);
+        private Duration checkInterval = Duration.ofSeconds(1);
+        // 지연(초) 1개 값을 반환하는 쿼리, 기본은 PostgreSQL streaming replica 기준
+        private String lagQuery = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+                + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+    }
+}
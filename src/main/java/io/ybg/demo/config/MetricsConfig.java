@@ -0,0 +1,238 @@
+package io.ybg.demo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * http.server.requests 세부 결과 tag, 직렬화(JSON, CBOR, Smile) 시간 계측.
+ * CBOR/Smile 은 Accept: application/cbor, application/x-jackson-smile 요청에 사용 (내부 서비스 간 호출용)
+ * percentile histogram / SLO bucket 은 application.yml 의 management.metrics.distribution 참고
+ */
+@Configuration
+public class MetricsConfig {
+    // 이 크기까지만 모아서 Content-Length 를 채움
+    private static final String MIN_RESPONSE_SIZE = "${server.compression.min-response-size:2KB}";
+
+    @Bean
+    public ServerRequestObservationConvention memberServerRequestObservationConvention() {
+        return new ReasonObservationConvention();
+    }
+
+    // Boot 기본 converter 대체 (ConditionalOnMissingBean)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                                                   @Value(MIN_RESPONSE_SIZE) DataSize minResponseSize) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, meterRegistry, (int) minResponseSize.toBytes());
+    }
+
+    // spring.jackson.* 설정을 공유하도록 Boot 의 builder 사용
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder builder, MeterRegistry meterRegistry,
+                                                                                           @Value(MIN_RESPONSE_SIZE) DataSize minResponseSize) {
+        return new TimedCborHttpMessageConverter(builder.factory(new CBORFactory()).build(), meterRegistry, (int) minResponseSize.toBytes());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder, MeterRegistry meterRegistry,
+                                                                                             @Value(MIN_RESPONSE_SIZE) DataSize minResponseSize) {
+        return new TimedSmileHttpMessageConverter(builder.factory(new SmileFactory()).build(), meterRegistry, (int) minResponseSize.toBytes());
+    }
+
+    /**
+     * 기본 outcome(CLIENT_ERROR 등)에 더해 controller 가 반환한 분기(NOT_FOUND, CONFLICT, BAD_REQUEST ...)를 reason tag 로 남긴다.
+     */
+    static class ReasonObservationConvention extends DefaultServerRequestObservationConvention {
+        private static final KeyValue REASON_NONE = KeyValue.of("reason", "NONE");
+
+        @Override
+        public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+            return super.getLowCardinalityKeyValues(context).and(reason(context));
+        }
+
+        private static KeyValue reason(ServerRequestObservationContext context) {
+            if (context.getResponse() == null) {
+                return REASON_NONE;
+            }
+            HttpStatus status = HttpStatus.resolve(context.getResponse().getStatus());
+            if (status == null) {
+                return KeyValue.of("reason", "UNKNOWN");
+            }
+            // 2xx 는 outcome=SUCCESS 로 충분
+            return status.is2xxSuccessful() ? REASON_NONE : KeyValue.of("reason", status.name());
+        }
+    }
+
+    // writeInternal 의 type 은 null 일 수 있음. Spring @Nullable 은 JSR-305 meta-annotation 이 없는 classpath 에서
+    // "unknown enum constant When.MAYBE" 경고를 내므로 붙이지 않음
+    static class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+        private final MeterRegistry meterRegistry;
+        private final int bufferLimit;
+
+        TimedJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry, int bufferLimit) {
+            super(objectMapper);
+            this.meterRegistry = meterRegistry;
+            this.bufferLimit = bufferLimit;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            timed(meterRegistry, "json", object, outputMessage, bufferLimit, body -> super.writeInternal(object, type, body));
+        }
+    }
+
+    static class TimedCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+        private final MeterRegistry meterRegistry;
+        private final int bufferLimit;
+
+        TimedCborHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry, int bufferLimit) {
+            super(objectMapper);
+            this.meterRegistry = meterRegistry;
+            this.bufferLimit = bufferLimit;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            timed(meterRegistry, "cbor", object, outputMessage, bufferLimit, body -> super.writeInternal(object, type, body));
+        }
+    }
+
+    static class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+        private final MeterRegistry meterRegistry;
+        private final int bufferLimit;
+
+        TimedSmileHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry, int bufferLimit) {
+            super(objectMapper);
+            this.meterRegistry = meterRegistry;
+            this.bufferLimit = bufferLimit;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            timed(meterRegistry, "smile", object, outputMessage, bufferLimit, body -> super.writeInternal(object, type, body));
+        }
+    }
+
+    /**
+     * 직렬화 시간을 기록한다. 응답 전체를 buffer 에 담지 않고 쓰는 대로 전송한다.
+     * 앞의 bufferLimit(server.compression.min-response-size) byte 까지만 모아 두고 그 안에서 끝나면 Content-Length 를 채워 전송,
+     * 넘으면 그대로 흘려보낸다 (chunked). Content-Length 를 모르면 tomcat 은 min-response-size 와 관계없이 압축하지만
+     * 흘려보내는 응답은 이미 min-response-size 이상이므로 결과는 같다.
+     * 큰 응답은 socket write 시간(client 수신 대기)이 함께 기록된다.
+     */
+    private static void timed(MeterRegistry meterRegistry, String format, Object object, HttpOutputMessage outputMessage, int bufferLimit, Write write) throws IOException {
+        PrefixBufferedOutputStream body = new PrefixBufferedOutputStream(outputMessage, bufferLimit);
+        HttpOutputMessage wrapped = new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        };
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            write.run(wrapped);
+            body.finish();
+        } finally {
+            sample.stop(Timer.builder("http.server.serialization")
+                    .tag("format", format)
+                    .tag("type", object.getClass().getSimpleName())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * limit 까지는 buffer, 넘으면 buffer 를 비우고 이후는 원래 body 로 바로 쓴다.
+     * buffer 중에는 flush 를 무시 (commit 되면 Content-Length 를 쓸 수 없음)
+     */
+    static class PrefixBufferedOutputStream extends OutputStream {
+        private final HttpOutputMessage target;
+        private final int limit;
+        private FastByteArrayOutputStream buffer = new FastByteArrayOutputStream();
+        private OutputStream out;
+
+        PrefixBufferedOutputStream(HttpOutputMessage target, int limit) {
+            this.target = target;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (buffer != null && buffer.size() + 1 > limit) {
+                spill();
+            }
+            if (buffer != null) {
+                buffer.write(b);
+            } else {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer != null && buffer.size() + len > limit) {
+                spill();
+            }
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer == null) {
+                out.flush();
+            }
+        }
+
+        // limit 안에서 끝난 응답만 Content-Length 설정
+        void finish() throws IOException {
+            if (buffer != null) {
+                target.getHeaders().setContentLength(buffer.size());
+                spill();
+            }
+        }
+
+        private void spill() throws IOException {
+            out = target.getBody();
+            buffer.writeTo(out);
+            buffer = null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run(HttpOutputMessage outputMessage) throws IOException;
+    }
+}
@@ -0,0 +1,31 @@
+package io.ybg.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.component.RateLimitInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * /member/** 요청 제한 (RateLimitInterceptor).
+ * WebMvcConfigurer 가 아닌 설정에서 등록하므로 WebMvcTest slice 에는 포함되지 않는다.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        return new RateLimitInterceptor(memberProperties, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer rateLimitInterceptorConfigurer(RateLimitInterceptor rateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/member/**");
+            }
+        };
+    }
+}
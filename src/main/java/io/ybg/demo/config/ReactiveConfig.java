@@ -0,0 +1,58 @@
+package io.ybg.demo.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * /member/v2 non-blocking 읽기 경로.
+ * ConnectionFactory 는 bean 으로 노출하지 않는다 (JPA DataSource 와 공존하기 위해).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "member.reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfig implements DisposableBean {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient memberDatabaseClient(MemberProperties memberProperties, ObjectProvider<R2dbcConnectionDetails> connectionDetails) {
+        MemberProperties.Reactive properties = memberProperties.getReactive();
+        // docker compose 연결 정보 우선
+        R2dbcConnectionDetails details = connectionDetails.getIfAvailable();
+        ConnectionFactoryOptions options = details != null ? details.getConnectionFactoryOptions() : options(properties);
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options);
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .build());
+        return DatabaseClient.create(pool);
+    }
+
+    private static ConnectionFactoryOptions options(MemberProperties.Reactive properties) {
+        ConnectionFactoryOptions.Builder builder = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            builder.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            builder.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
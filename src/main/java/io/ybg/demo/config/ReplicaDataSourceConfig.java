@@ -0,0 +1,83 @@
+package io.ybg.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.component.ReplicaLagMonitor;
+import io.ybg.demo.component.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+
+/**
+ * member.datasource.replica.url 설정 시 primary/replica 2개 pool 을 만들고
+ * LazyConnectionDataSourceProxy(ReplicaRoutingDataSource) 를 JPA 가 사용할 DataSource 로 등록한다.
+ * pool 은 각각 bean 이므로 SqlMetricsConfig 계측, hikari metrics/health 가 pool 별로 적용된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "member.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        // docker compose 연결 정보 우선
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource dataSource = details == null
+                ? properties.initializeDataSourceBuilder().type(HikariDataSource.class).build()
+                : DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(details.getDriverClassName())
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword())
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("member.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(MemberProperties memberProperties, DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        MemberProperties.Replica replica = memberProperties.getDatasource().getReplica();
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        String username = replica.getUsername() != null ? replica.getUsername() : details != null ? details.getUsername() : properties.determineUsername();
+        String password = replica.getPassword() != null ? replica.getPassword() : details != null ? details.getPassword() : properties.determinePassword();
+
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource, MemberProperties memberProperties,
+                                               MeterRegistry meterRegistry, TaskScheduler taskScheduler) {
+        MemberProperties.Replica replica = memberProperties.getDatasource().getReplica();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, replica, meterRegistry);
+        taskScheduler.scheduleWithFixedDelay(monitor::check, replica.getCheckInterval());
+        return monitor;
+    }
+
+    // 실제 connection 은 첫 구문 실행 시점에 획득 -> 그 시점에는 트랜잭션의 readOnly 여부가 정해져 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource, @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+}
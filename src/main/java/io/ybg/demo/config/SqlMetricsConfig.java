@@ -0,0 +1,61 @@
+package io.ybg.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.component.SqlStatementMonitor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC DataSource 를 proxy 로 감싸 SQL 구문을 SqlStatementMonitor 로 계측한다. (show-sql 대체)
+ * WebMvcConfigurer 가 아닌 설정에서 등록하므로 WebMvcTest slice 에는 포함되지 않는다.
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public SqlStatementMonitor sqlStatementMonitor(MemberProperties memberProperties, MeterRegistry meterRegistry) {
+        return new SqlStatementMonitor(memberProperties, meterRegistry);
+    }
+
+    // 요청 당 구문 수 집계
+    @Bean
+    public WebMvcConfigurer sqlStatementInterceptor(SqlStatementMonitor sqlStatementMonitor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(sqlStatementMonitor);
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlDataSourceProxy(ObjectProvider<SqlStatementMonitor> sqlStatementMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // LazyConnectionDataSourceProxy 등 위임 DataSource 는 아래 pool 이 이미 계측됨
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+                SqlStatementMonitor monitor = sqlStatementMonitor.getIfAvailable();
+                if (monitor == null) {
+                    return bean;
+                }
+                // unwrap 은 원본으로 위임 -> hikari metrics/health 유지
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(monitor)
+                        .build();
+            }
+        };
+    }
+}
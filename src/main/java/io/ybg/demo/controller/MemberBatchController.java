@@ -0,0 +1,54 @@
+package io.ybg.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.service.MemberBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/member/v1/batch")
+@RequiredArgsConstructor
+@Validated
+public class MemberBatchController {
+
+    private final MemberBatchService memberBatchService;
+
+    @Operation(summary = "add Members", description = "대량 가입, 항목별 결과 반환")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "항목별 가입 결과 반환"),
+            @ApiResponse(responseCode = "400", description = "최대 건수 초과", content = @Content)
+    })
+    @PostMapping()
+    public ResponseEntity<List<MemberDTO.BatchResultDTO>> createMembers(@Parameter(description = "Member Info 목록") @RequestBody List<MemberDTO.CreateMemberDTO> params) {
+        return ResponseEntity.ok().body(memberBatchService.saveMembers(params));
+    }
+
+    @Operation(summary = "update Members", description = "대량 수정, 항목별 결과 반환")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "항목별 수정 결과 반환"),
+            @ApiResponse(responseCode = "400", description = "최대 건수 초과", content = @Content)
+    })
+    @PutMapping()
+    public ResponseEntity<List<MemberDTO.BatchResultDTO>> updateMembers(@Parameter(description = "ID 포함 Member Info 목록") @RequestBody List<MemberDTO.BatchUpdateMemberDTO> params) {
+        return ResponseEntity.ok().body(memberBatchService.updateMembers(params));
+    }
+
+    @Operation(summary = "delete Members", description = "대량 삭제, 항목별 결과 반환")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "항목별 삭제 결과 반환"),
+            @ApiResponse(responseCode = "400", description = "최대 건수 초과", content = @Content)
+    })
+    @DeleteMapping()
+    public ResponseEntity<List<MemberDTO.BatchResultDTO>> deleteMembers(@Parameter(description = "Member ID 목록") @RequestBody List<Long> ids) {
+        return ResponseEntity.ok().body(memberBatchService.deleteMembers(ids));
+    }
+}
@@ -0,0 +1,49 @@
+package io.ybg.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.service.MemberChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/member/v1")
+@RequiredArgsConstructor
+@Validated
+public class MemberChangeController {
+
+    private final MemberChangeService memberChangeService;
+
+    @Operation(summary = "get Member Changes", description = "since 이후 생성/수정/삭제, seq 순. 응답의 next 를 다음 요청의 since 로 사용")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 목록 반환, 변경이 없으면 빈 목록"),
+            @ApiResponse(responseCode = "400", description = "since 음수", content = @Content),
+            @ApiResponse(responseCode = "410", description = "보관 기간(member.outbox.retention)이 지난 since, 목록 재동기화 필요", content = @Content)
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<MemberDTO.ChangesDTO> getChanges(@Parameter(description = "마지막으로 받은 seq, 처음이면 0") @RequestParam(defaultValue = "0") long since,
+                                                           @Parameter(description = "최대 건수") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok().body(memberChangeService.getChanges(since, size));
+    }
+
+    @Operation(summary = "get Members Modified Since", description = "since 이후 생성/수정된 멤버와 삭제된 id, (시각, id) keyset. 응답의 nextSince, nextId 로 이어서 요청")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 반환, since 생략 시 변경 없이 기준점만 반환"),
+            @ApiResponse(responseCode = "410", description = "삭제 기록 보관 기간(member.delta.tombstone-retention)보다 오래된 since, 목록 재동기화 필요", content = @Content)
+    })
+    @GetMapping("/modified-since")
+    public ResponseEntity<MemberDTO.DeltaDTO> getModifiedSince(@Parameter(description = "마지막으로 받은 nextSince (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                                                               @Parameter(description = "마지막으로 받은 nextId") @RequestParam(defaultValue = "0") long id,
+                                                               @Parameter(description = "최대 건수") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok().body(memberChangeService.getModifiedSince(since, id, size));
+    }
+}
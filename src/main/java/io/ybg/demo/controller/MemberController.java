@@ -1,26 +1,42 @@
 package io.ybg.demo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.config.MemberProperties;
 import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.MemberVersionMismatchException;
 import io.ybg.demo.mapper.MemberMapper;
 import io.ybg.demo.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/member/v1")
@@ -28,37 +44,108 @@ import java.util.List;
 @Validated
 @Slf4j
 public class MemberController {
+    // entity -> dto 변환 시간, slice test 에서도 동작하도록 global registry 사용
+    private static final Timer MAP_ONE = Timer.builder("member.mapper").tag("type", "single").register(Metrics.globalRegistry);
 
     private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+    private final MemberProperties memberProperties;
 
     @Operation(summary = "get All Members", description = "get All Members")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "모든 멤버 반환"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 일치, 변경 없음", content = @Content),
     })
     @GetMapping()
-    public ResponseEntity<List<MemberDTO.InfoMemberDTO>> getAllMembers() {
-        List<MemberEntity> members = memberService.getAllMembers();
+    public ResponseEntity<List<MemberDTO.InfoMemberDTO>> getAllMembers(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // version 을 먼저 읽음 -> 사이에 변경되어도 ETag 가 내용보다 오래될 뿐 (다음 요청에서 200)
+        MemberDTO.ListVersionDTO version = memberService.getMembersVersion();
+        String eTag = "\"" + version.getCount() + "-" + (version.getLastModified() == null ? 0 : lastModified(version).toEpochMilli()) + "\"";
+
+        // 삭제는 mod_dt 에 드러나지 않으므로 If-Modified-Since 로는 304 판단하지 않음 (Last-Modified 는 참고용)
+        if (ifNoneMatch != null && matches(ifNoneMatch, eTag)) {
+            return listHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, version).build();
+        }
+
+        List<MemberDTO.InfoMemberDTO> members = memberService.getAllMembers();
 
         if (members.isEmpty()) {
-            return ResponseEntity.noContent().build();
+            return listHeaders(ResponseEntity.status(HttpStatus.NO_CONTENT), eTag, version).build();
         }
 
-        return ResponseEntity.ok().body(MemberMapper.INSTANCE.MemberToInfo(members));
+        return listHeaders(ResponseEntity.ok(), eTag, version).body(members);
+    }
+
+    @Operation(summary = "get Members Page", description = "ID 기준 cursor(keyset) 페이지 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "cursor 이후 멤버 페이지 반환"),
+    })
+    @GetMapping("/page")
+    public ResponseEntity<MemberDTO.PageMemberDTO> getMembersPage(@Parameter(description = "마지막으로 받은 Member ID") @RequestParam(defaultValue = "0") long cursor,
+                                                                  @Parameter(description = "페이지 크기") @RequestParam(required = false) Integer size) {
+        Slice<MemberDTO.InfoMemberDTO> members = memberService.getMembersAfter(cursor, size);
+        Long nextCursor = members.hasNext() ? members.getContent().getLast().getId() : null;
+
+        return ResponseEntity.ok().body(new MemberDTO.PageMemberDTO(members.getContent(), nextCursor));
+    }
+
+    @Operation(summary = "stream All Members", description = "모든 멤버 NDJSON 스트리밍")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "모든 멤버 한 줄씩 반환", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)),
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllMembers() {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = objectMapper.writerFor(MemberDTO.InfoMemberDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+                memberService.streamAllMembers(m -> {
+                    try {
+                        writer.write(m);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @Operation(summary = "get Member By ID", description = "get Member By ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "ID 해당하는 멤버 반환"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 일치, 변경 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 멤버", content = @Content),
     })
     @GetMapping("/{id}")
-    public ResponseEntity<MemberDTO.InfoMemberDTO> getMemberById(@Parameter(description = "Member ID") @PathVariable long id) {
-        try {
-            MemberEntity memberEntity = memberService.getMemberById(id);
-            return ResponseEntity.ok().body(MemberMapper.INSTANCE.MemberToInfo(memberEntity));
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<MemberDTO.InfoMemberDTO> getMemberById(@Parameter(description = "Member ID") @PathVariable long id,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(memberService.getMemberById(id), ifNoneMatch);
+    }
+
+    @Operation(summary = "get Member By UUID", description = "get Member By UUID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "UUID 해당하는 멤버 반환"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 일치, 변경 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 멤버", content = @Content),
+    })
+    @GetMapping("/uuid/{uuid}")
+    public ResponseEntity<MemberDTO.InfoMemberDTO> getMemberByUuid(@Parameter(description = "Member UUID") @PathVariable UUID uuid,
+                                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // uuid -> id -> member 모두 cache 경유
+        return conditional(memberService.getMemberById(memberService.getMemberIdByUuid(uuid)), ifNoneMatch);
+    }
+
+    @Operation(summary = "get Members By UUIDs", description = "여러 UUID 를 IN 쿼리 1회로 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "존재하는 멤버만 반환"),
+            @ApiResponse(responseCode = "400", description = "최대 건수 초과", content = @Content),
+    })
+    @GetMapping("/uuid")
+    public ResponseEntity<List<MemberDTO.InfoMemberDTO>> getMembersByUuids(@Parameter(description = "Member UUID 목록") @RequestParam List<UUID> uuids) {
+        return ResponseEntity.ok().body(memberService.getMembersByUuids(uuids));
     }
 
     @Operation(summary = "email check", description = "email check")
@@ -74,59 +161,110 @@ public class MemberController {
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "가입 Member 정보 반환"),
             @ApiResponse(responseCode = "500", description = "가입 실패", content = @Content),
-            @ApiResponse(responseCode = "400", description = "가입 실패(이메일 충돌)", content = @Content)
+            @ApiResponse(responseCode = "409", description = "가입 실패(이메일 충돌)", content = @Content)
     })
     @PostMapping()
     public ResponseEntity<MemberDTO.InfoMemberDTO> createMember(@Parameter(description = "Member Info") @RequestBody MemberDTO.CreateMemberDTO param) {
-        MemberEntity memberEntity = MemberMapper.INSTANCE.CreateToMember(param);
-
-        try {
-            memberEntity = memberService.saveMember(memberEntity);
-
-        } catch (DataIntegrityViolationException e) {
-            log.warn("Error saving Member: {} , {}", e.getMessage(), memberEntity);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-        }
+        MemberEntity memberEntity = memberService.saveMember(MemberMapper.INSTANCE.CreateToMember(param));
         return ResponseEntity.created(URI.create("/member/v1/" + memberEntity.getId())).build();
     }
 
     @Operation(summary = "update Member", description = "update Member")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 Member 정보 반환"),
-            @ApiResponse(responseCode = "409", description = "수정 실패", content = @Content)
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 멤버", content = @Content),
+            @ApiResponse(responseCode = "409", description = "수정 실패(이메일 충돌)", content = @Content),
+            @ApiResponse(responseCode = "412", description = "If-Match 버전 불일치", content = @Content)
     })
     @PutMapping("/{id}")
-    public ResponseEntity<MemberDTO.InfoMemberDTO> updateMember(@PathVariable long id, @Parameter(description = "Member Info") @RequestBody @Valid MemberDTO.UpdateMemberDTO updateDTO) {
-        MemberEntity memberEntity = MemberMapper.INSTANCE.UpdateToMember(updateDTO);
-
-        try {
-            memberEntity = memberService.updateMember(id, memberEntity);
-        } catch (DataIntegrityViolationException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        } catch (RuntimeException e) {
-            log.warn("Error updating Member: {}, {}", e.getMessage(), memberEntity);
-            return ResponseEntity.status(HttpStatus.CONFLICT).build();
-        }
-        return ResponseEntity.ok().body(MemberMapper.INSTANCE.MemberToInfo(memberEntity));
+    public ResponseEntity<MemberDTO.InfoMemberDTO> updateMember(@PathVariable long id, @Parameter(description = "Member Info") @RequestBody @Valid MemberDTO.UpdateMemberDTO updateDTO,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        MemberEntity memberEntity = memberService.updateMember(id, MemberMapper.INSTANCE.UpdateToMember(updateDTO), parseVersion("Update", id, ifMatch));
+        return ResponseEntity.ok().eTag(eTag(memberEntity.getVersion())).body(toInfo(memberEntity));
     }
 
     @Operation(summary = "delete Member", description = "delete Member")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Member 삭제 성공", content = @Content),
-            @ApiResponse(responseCode = "500", description = "삭제 실패", content = @Content)
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 멤버", content = @Content),
+            @ApiResponse(responseCode = "500", description = "삭제 실패", content = @Content),
+            @ApiResponse(responseCode = "412", description = "If-Match 버전 불일치", content = @Content)
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Boolean> deleteMemberById(@Parameter(description = "Member ID") @PathVariable long id) {
+    public ResponseEntity<Boolean> deleteMemberById(@Parameter(description = "Member ID") @PathVariable long id,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        memberService.deleteMemberById(id, parseVersion("Delete", id, ifMatch));
+        return ResponseEntity.ok().body(true);
+    }
+
+    // If-None-Match 일치 시 serialize 없이 304
+    private static ResponseEntity<MemberDTO.InfoMemberDTO> conditional(MemberDTO.InfoMemberDTO member, String ifNoneMatch) {
+        String eTag = eTag(member.getVersion());
+        if (eTag != null && ifNoneMatch != null && matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(member);
+    }
+
+    private static String eTag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * 목록 캐시 헤더. 같은 URL 이 JSON/CBOR/Smile, gzip 여부로 달라지므로 Vary 필수
+     * weak ETag : 표현(압축, 형식)과 무관하게 같은 내용이면 같은 값, tomcat 은 strong ETag 응답을 압축하지 않음
+     */
+    private ResponseEntity.BodyBuilder listHeaders(ResponseEntity.BodyBuilder builder, String eTag, MemberDTO.ListVersionDTO version) {
+        MemberProperties.HttpCache httpCache = memberProperties.getHttpCache();
+        CacheControl cacheControl = httpCache.isShared()
+                ? CacheControl.maxAge(httpCache.getMaxAge()).sMaxAge(httpCache.getSMaxAge()).cachePublic().mustRevalidate()
+                : CacheControl.noCache().cachePrivate();
+
+        builder.eTag("W/" + eTag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (version.getLastModified() != null) {
+            builder.lastModified(lastModified(version));
+        }
+        return builder;
+    }
+
+    private static Instant lastModified(MemberDTO.ListVersionDTO version) {
+        return version.getLastModified().atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static boolean matches(String header, String eTag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 의 버전 추출, 헤더가 없거나 "*" 면 null(검사 안 함)
+     * If-Match 는 strong 비교 (RFC 9110 13.1.1) 이므로 weak tag(W/) 는 일치하지 않는 것으로 처리
+     *
+     * @throws MemberVersionMismatchException 버전 형식이 아니거나 weak tag 인 경우
+     */
+    private static Long parseVersion(String action, long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new MemberVersionMismatchException(action, id, ifMatch);
+        }
         try {
-            memberService.deleteMemberById(id);
-        } catch (DataIntegrityViolationException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        } catch (RuntimeException e) {
-            log.warn("Error deleting Member: {}, {}", e.getMessage(), id);
-            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new MemberVersionMismatchException(action, id, ifMatch);
         }
-        return ResponseEntity.ok().body(true);
     }
-}
\ No newline at end of file
+
+    private static MemberDTO.InfoMemberDTO toInfo(MemberEntity memberEntity) {
+        return MAP_ONE.record(() -> MemberMapper.INSTANCE.MemberToInfo(memberEntity));
+    }
+}
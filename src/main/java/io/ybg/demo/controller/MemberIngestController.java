@@ -0,0 +1,66 @@
+package io.ybg.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.service.MemberIngestService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+// member.ingest.enabled=true 일 때만 등록
+@RestController
+@RequestMapping("/member/v1/ingest")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnProperty(prefix = "member.ingest", name = "enabled", havingValue = "true")
+public class MemberIngestController {
+
+    private final MemberIngestService memberIngestService;
+
+    @Operation(summary = "ingest Member", description = "비동기 가입 : 검증 후 큐에 넣고 tracking id 반환, 결과는 Location 으로 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "접수, tracking id 반환"),
+            @ApiResponse(responseCode = "400", description = "검증 실패", content = @Content),
+            @ApiResponse(responseCode = "409", description = "이미 있는 이메일", content = @Content),
+            @ApiResponse(responseCode = "429", description = "큐가 가득 참, Retry-After 후 재시도", content = @Content)
+    })
+    @PostMapping()
+    public ResponseEntity<MemberDTO.IngestStatusDTO> ingestMember(@Parameter(description = "Member Info") @RequestBody @Valid MemberDTO.CreateMemberDTO param) {
+        MemberDTO.IngestStatusDTO status = memberIngestService.accept(param);
+        return ResponseEntity.accepted().location(URI.create("/member/v1/ingest/" + status.getTrackingId())).body(status);
+    }
+
+    @Operation(summary = "get Ingest Status", description = "접수 건 처리 상태 (member.ingest.status-ttl 동안 보관)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 상태 반환"),
+            @ApiResponse(responseCode = "404", description = "알 수 없거나 만료된 tracking id", content = @Content)
+    })
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<MemberDTO.IngestStatusDTO> getIngestStatus(@Parameter(description = "tracking id") @PathVariable UUID trackingId) {
+        MemberDTO.IngestStatusDTO status = memberIngestService.getStatus(trackingId);
+        if (status == null) {
+            throw new MemberNotFoundException("Find", "trackingId", trackingId);
+        }
+        return ResponseEntity.ok().body(status);
+    }
+
+    @Operation(summary = "get Ingest Stats", description = "대기 건수, 접수/거절/처리 건수")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "진행 상황 반환"),
+    })
+    @GetMapping()
+    public ResponseEntity<MemberDTO.IngestStatsDTO> getIngestStats() {
+        return ResponseEntity.ok().body(memberIngestService.getStats());
+    }
+}
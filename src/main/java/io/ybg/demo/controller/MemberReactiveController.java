@@ -0,0 +1,74 @@
+package io.ybg.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.service.MemberReactiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * 읽기 전용 reactive API, 쓰기는 /member/v1 사용.
+ * Accept: application/x-ndjson 이면 backpressure 를 유지한 채 한 줄씩 흘려보낸다.
+ */
+@RestController
+@RequestMapping("/member/v2")
+@ConditionalOnProperty(prefix = "member.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MemberReactiveController {
+
+    private final MemberReactiveService memberReactiveService;
+
+    @Operation(summary = "get All Members (reactive)", description = "get All Members")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "모든 멤버 반환"),
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<MemberDTO.InfoMemberDTO> getAllMembers() {
+        return memberReactiveService.getAllMembers();
+    }
+
+    @Operation(summary = "get Members Page (reactive)", description = "ID 기준 cursor(keyset) 페이지 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "cursor 이후 멤버 반환"),
+    })
+    @GetMapping(value = "/page", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<MemberDTO.InfoMemberDTO> getMembersPage(@Parameter(description = "마지막으로 받은 Member ID") @RequestParam(defaultValue = "0") long cursor,
+                                                        @Parameter(description = "페이지 크기") @RequestParam(required = false) Integer size) {
+        return memberReactiveService.getMembersAfter(cursor, size);
+    }
+
+    @Operation(summary = "get Member By ID (reactive)", description = "get Member By ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "ID 해당하는 멤버 반환"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 멤버", content = @Content),
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<MemberDTO.InfoMemberDTO>> getMemberById(@Parameter(description = "Member ID") @PathVariable long id) {
+        return memberReactiveService.getMemberById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "get Member By UUID (reactive)", description = "get Member By UUID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "UUID 해당하는 멤버 반환"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 멤버", content = @Content),
+    })
+    @GetMapping("/uuid/{uuid}")
+    public Mono<ResponseEntity<MemberDTO.InfoMemberDTO>> getMemberByUuid(@Parameter(description = "Member UUID") @PathVariable UUID uuid) {
+        return memberReactiveService.getMemberByUuid(uuid)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
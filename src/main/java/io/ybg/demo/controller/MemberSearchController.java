@@ -0,0 +1,34 @@
+package io.ybg.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.service.MemberSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/member/v1/search")
+@RequiredArgsConstructor
+@Validated
+public class MemberSearchController {
+
+    private final MemberSearchService memberSearchService;
+
+    @Operation(summary = "search Members", description = "이름/이메일 부분 일치, 전화번호 일부 검색. 점수(일치 > 접두 > 포함) 순 페이지")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 결과 페이지 반환, 시간 제한 초과 시 partial=true"),
+            @ApiResponse(responseCode = "400", description = "검색어 길이, 페이지 범위 초과", content = @Content)
+    })
+    @GetMapping()
+    public ResponseEntity<MemberDTO.SearchMemberDTO> searchMembers(@Parameter(description = "검색어 (이름, 이메일, 전화번호 일부)") @RequestParam String q,
+                                                                   @Parameter(description = "페이지 번호(0부터)") @RequestParam(defaultValue = "0") int page,
+                                                                   @Parameter(description = "페이지 크기") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok().body(memberSearchService.searchMembers(q, page, size));
+    }
+}
@@ -0,0 +1,156 @@
+package io.ybg.demo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.service.MemberTransferService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * 대량 import / export.
+ * import 는 request thread 를 잡지 않도록 async (member.transfer.timeout) 로 처리하고, 끝나면 결과를 반환한다.
+ */
+@RestController
+@RequestMapping("/member/v1")
+@RequiredArgsConstructor
+@Validated
+public class MemberTransferController {
+    private static final String TEXT_CSV = "text/csv";
+
+    private final MemberTransferService memberTransferService;
+    private final MemberProperties memberProperties;
+
+    @Operation(summary = "import Members", description = "CSV(header : email, name, phone) 또는 NDJSON 파일 업로드, 행 단위로 읽어 chunk 별 가입")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 결과, 실패 행 목록"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 형식, CSV header 없음", content = @Content),
+            @ApiResponse(responseCode = "413", description = "spring.servlet.multipart.max-file-size 초과", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public WebAsyncTask<ResponseEntity<MemberDTO.ImportStatusDTO>> importMembers(@Parameter(description = "CSV / NDJSON 파일") @RequestPart("file") MultipartFile file,
+                                                                                 @Parameter(description = "csv | ndjson, 생략 시 파일 확장자/Content-Type") @RequestParam(required = false) String format) {
+        MemberDTO.TransferFormat resolved = format != null ? format(format) : format(file.getOriginalFilename(), file.getContentType());
+        return importTask(resolved, file::getInputStream);
+    }
+
+    @Operation(summary = "import Members (body)", description = "multipart 없이 요청 body 를 바로 읽음 (Content-Type : text/csv, application/x-ndjson)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 결과, 실패 행 목록"),
+            @ApiResponse(responseCode = "400", description = "CSV header 없음", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE})
+    public WebAsyncTask<ResponseEntity<MemberDTO.ImportStatusDTO>> importMembersBody(HttpServletRequest request) {
+        MemberDTO.TransferFormat format = format(null, request.getContentType());
+        return importTask(format, request::getInputStream);
+    }
+
+    @Operation(summary = "get Imports", description = "진행 중 / 최근 import 진행 상황 (member.transfer.status-ttl 동안 보관)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "최근 시작 순"),
+    })
+    @GetMapping("/import")
+    public ResponseEntity<List<MemberDTO.ImportStatusDTO>> getImports() {
+        return ResponseEntity.ok().body(memberTransferService.getImports());
+    }
+
+    @Operation(summary = "get Import", description = "import 진행 상황")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "진행 상황 반환"),
+            @ApiResponse(responseCode = "404", description = "알 수 없거나 만료된 import id", content = @Content)
+    })
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<MemberDTO.ImportStatusDTO> getImport(@Parameter(description = "import id") @PathVariable UUID importId) {
+        MemberDTO.ImportStatusDTO status = memberTransferService.getImport(importId);
+        if (status == null) {
+            throw new MemberNotFoundException("Find", "importId", importId);
+        }
+        return ResponseEntity.ok().body(status);
+    }
+
+    @Operation(summary = "export Members", description = "전체 멤버를 DB cursor 에서 읽는 대로 전송 (CSV 는 그대로 import 가능)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "CSV / NDJSON 파일"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 형식", content = @Content)
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@Parameter(description = "csv | ndjson", schema = @Schema(allowableValues = {"csv", "ndjson"}))
+                                                               @RequestParam(defaultValue = "csv") String format) {
+        MemberDTO.TransferFormat resolved = format(format);
+        StreamingResponseBody body = out -> memberTransferService.exportMembers(resolved, out);
+
+        String filename = "members." + resolved.name().toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok()
+                .contentType(resolved == MemberDTO.TransferFormat.CSV ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private WebAsyncTask<ResponseEntity<MemberDTO.ImportStatusDTO>> importTask(MemberDTO.TransferFormat format, Callable<InputStream> upload) {
+        return new WebAsyncTask<>(memberProperties.getTransfer().getTimeout().toMillis(), () -> {
+            try (InputStream in = upload.call()) {
+                return ResponseEntity.ok().body(memberTransferService.importMembers(format, in));
+            }
+        });
+    }
+
+    private static MemberDTO.TransferFormat format(String format) {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> MemberDTO.TransferFormat.CSV;
+            case "ndjson", "jsonl" -> MemberDTO.TransferFormat.NDJSON;
+            default -> throw new InvalidMemberRequestException("Unsupported format : " + format);
+        };
+    }
+
+    // 확장자 우선, 없으면 Content-Type
+    private static MemberDTO.TransferFormat format(String filename, String contentType) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return MemberDTO.TransferFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return MemberDTO.TransferFormat.NDJSON;
+        }
+        MediaType type = mediaType(contentType);
+        if (type != null && type.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+            return MemberDTO.TransferFormat.CSV;
+        }
+        if (type != null && type.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return MemberDTO.TransferFormat.NDJSON;
+        }
+        throw new InvalidMemberRequestException("Unsupported format : " + (filename != null ? filename : contentType));
+    }
+
+    // 잘못된 Content-Type 은 알 수 없는 형식으로 처리
+    private static MediaType mediaType(String contentType) {
+        try {
+            return contentType == null ? null : MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package io.ybg.demo.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.ybg.demo.event.MemberChangedEvent;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.hibernate.validator.constraints.Length;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public class MemberDTO {
@@ -76,7 +79,270 @@ public class MemberDTO {
 
         private LocalDateTime reg_dt;
         private LocalDateTime mod_dt;
+
+        @Schema(description = "버전(ETag)", example = "0")
+        private Long version;
     }
-}
 
+    // 목록 ETag/Last-Modified 계산용 (응답에 쓰지 않음)
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ListVersionDTO {
+        private long count;
+        private LocalDateTime lastModified;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class PageMemberDTO {
+        @Schema(description = "멤버 목록")
+        private List<InfoMemberDTO> members;
+
+        @Schema(description = "다음 페이지 cursor, 마지막 페이지면 null", example = "20")
+        private Long nextCursor;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class SearchMemberDTO {
+        @Schema(description = "검색 결과, 점수(일치 > 접두 > 포함) 순")
+        private List<InfoMemberDTO> members;
+
+        @Schema(description = "페이지 번호(0부터)", example = "0")
+        private int page;
+
+        @Schema(description = "페이지 크기", example = "20")
+        private int size;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "false")
+        private boolean hasNext;
+
+        @Schema(description = "시간 제한(member.search.timeout) 초과로 일부 결과만 반환", example = "false")
+        private boolean partial;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class BatchUpdateMemberDTO {
+        @NotNull(message = "Id cannot be null")
+        @Schema(description = "사용자 PK", example = "1")
+        private Long id;
+
+        @NotEmpty(message = "Email cannot be null")
+        @Email
+        @Length(min = 2, max = 64, message = "Email not be less than 2 characters")
+        @Schema(description = "사용자 이메일", example = "test@naver.com")
+        private String email;
+
+        @Length(min = 2, max = 32, message = "Name not be less than 2 characters")
+        @Schema(description = "사용자 이름", example = "홍길동")
+        private String name;
+
+        @Length(min = 11, max = 13, message = "Phone not be less than 11 characters")
+        @Schema(description = "사용자 전화번호", example = "010-1234-5678")
+        private String phone;
+    }
+
+    public enum BatchStatus {
+        CREATED, UPDATED, DELETED, INVALID, CONFLICT, NOT_FOUND, FAILED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class BatchResultDTO {
+        @Schema(description = "요청 목록 내 순번", example = "0")
+        private int index;
+
+        @Schema(description = "사용자 PK", example = "1")
+        private Long id;
+
+        @Schema(description = "처리 결과", example = "CREATED")
+        private BatchStatus status;
+
+        @Schema(description = "실패 사유")
+        private String message;
+    }
+
+    public enum IngestStatus {
+        QUEUED, CREATED, CONFLICT, INVALID, FAILED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class IngestStatusDTO {
+        @Schema(description = "접수 tracking id", example = "01912f0e-7c3a-7b1e-9d2f-3c4b5a697887")
+        private UUID trackingId;
+
+        @Schema(description = "처리 상태", example = "QUEUED")
+        private IngestStatus status;
+
+        @Schema(description = "가입된 사용자 PK", example = "1")
+        private Long id;
+
+        @Schema(description = "실패 사유")
+        private String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class IngestStatsDTO {
+        @Schema(description = "접수 후 commit 전 건수", example = "0")
+        private int queued;
+
+        @Schema(description = "최대 대기 건수, 초과 시 429", example = "10000")
+        private int capacity;
 
+        @Schema(description = "접수 건수 (시작 이후)", example = "0")
+        private long accepted;
+
+        @Schema(description = "큐가 가득 차 거절한 건수", example = "0")
+        private long rejected;
+
+        @Schema(description = "처리 완료 건수 (가입 + 실패)", example = "0")
+        private long completed;
+
+        @Schema(description = "DB 오류로 재시도한 batch 수", example = "0")
+        private long retries;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ChangeDTO {
+        @Schema(description = "변경 번호, 다음 요청의 since", example = "1")
+        private long seq;
+
+        @Schema(description = "변경 종류", example = "UPDATED")
+        private MemberChangedEvent.Type type;
+
+        @Schema(description = "사용자 PK", example = "1")
+        private Long memberId;
+
+        @Schema(description = "변경 시각")
+        private LocalDateTime changedAt;
+
+        @Schema(description = "현재 값, 삭제된 경우 null")
+        private InfoMemberDTO member;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ChangesDTO {
+        @Schema(description = "변경 목록, seq 순")
+        private List<ChangeDTO> changes;
+
+        @Schema(description = "다음 요청의 since (마지막 seq, 변경이 없으면 요청한 since)", example = "100")
+        private long next;
+
+        @Schema(description = "바로 이어서 요청할 변경이 더 있음", example = "false")
+        private boolean hasNext;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class TombstoneDTO {
+        @Schema(description = "삭제된 사용자 PK", example = "1")
+        private long id;
+
+        @Schema(description = "삭제 시각")
+        private LocalDateTime deletedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class DeltaDTO {
+        @Schema(description = "생성/수정된 멤버, (mod_dt, id) 순")
+        private List<InfoMemberDTO> members;
+
+        @Schema(description = "삭제된 멤버, (삭제 시각, id) 순")
+        private List<TombstoneDTO> deleted;
+
+        @Schema(description = "다음 요청의 since")
+        private LocalDateTime nextSince;
+
+        @Schema(description = "다음 요청의 id", example = "0")
+        private long nextId;
+
+        @Schema(description = "바로 이어서 요청할 변경이 더 있음", example = "false")
+        private boolean hasNext;
+    }
+
+    public enum TransferFormat {
+        CSV, NDJSON
+    }
+
+    public enum ImportState {
+        RUNNING, COMPLETED, ABORTED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ImportErrorDTO {
+        @Schema(description = "파일 내 줄 번호 (1부터, CSV header 포함)", example = "2")
+        private long line;
+
+        @Schema(description = "처리 결과", example = "INVALID")
+        private BatchStatus status;
+
+        @Schema(description = "실패 사유")
+        private String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ImportStatusDTO {
+        @Schema(description = "import id", example = "01912f0e-7c3a-7b1e-9d2f-3c4b5a697887")
+        private UUID importId;
+
+        @Schema(description = "파일 형식", example = "CSV")
+        private TransferFormat format;
+
+        @Schema(description = "진행 상태", example = "COMPLETED")
+        private ImportState state;
+
+        @Schema(description = "읽은 행 수 (header, 빈 행 제외)", example = "0")
+        private long rows;
+
+        @Schema(description = "가입 건수", example = "0")
+        private long created;
+
+        @Schema(description = "이미 있거나 파일 안에서 중복된 이메일", example = "0")
+        private long conflict;
+
+        @Schema(description = "형식/검증 실패", example = "0")
+        private long invalid;
+
+        @Schema(description = "DB 오류로 rollback 된 건수", example = "0")
+        private long failed;
+
+        @Schema(description = "실패 행, 최대 member.transfer.max-errors 건")
+        private List<ImportErrorDTO> errors;
+
+        @Schema(description = "실패 행이 max-errors 를 넘어 일부만 반환", example = "false")
+        private boolean errorsTruncated;
+
+        @Schema(description = "시작 시각")
+        private LocalDateTime startedAt;
+
+        @Schema(description = "경과 시간(ms)", example = "0")
+        private long elapsedMillis;
+
+        @Schema(description = "초당 처리 행 수", example = "0")
+        private double rowsPerSecond;
+
+        @Schema(description = "ABORTED 사유")
+        private String message;
+    }
+}
@@ -1,6 +1,8 @@
 package io.ybg.demo.entity;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.ybg.demo.entity.generator.MemberId;
+import io.ybg.demo.entity.generator.MemberUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
@@ -8,7 +10,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.validator.constraints.Length;
 
 import java.time.LocalDateTime;
@@ -19,16 +20,20 @@ import java.util.UUID;
 @Builder
 @Data
 @Entity
-@Table(indexes = @Index(name = "member_uuid", columnList = "uuid"))
+@Table(indexes = {
+        @Index(name = "member_uuid", columnList = "uuid"),
+        // /member/v1/modified-since keyset (mod_dt, id)
+        @Index(name = "member_mod_dt", columnList = "mod_dt, id")
+})
 public class MemberEntity {
 
     @Id
-    @GeneratedValue
+    @MemberId  // pooled-lo sequence
     @NotNull
     @Schema(description = "사용자 PK", example = "1")
     private Long id;
 
-    @UuidGenerator  // spring boot 3 기준 uuid4
+    @MemberUuid  // uuid4 | uuid7(시간순)
     @Column(columnDefinition = "uuid")
     @Schema(description = "사용자 UUID", example = "1")
     private UUID uuid;
@@ -39,14 +44,17 @@ public class MemberEntity {
     @Length(min = 2, max = 64, message = "Email not be less than 2 characters")
     @Schema(description = "사용자 이메일", example = "test@naver.com")
     @Column(length = 64, unique = true)
+    @ToString.Exclude  // 개인정보, 로그에 남기지 않음
     private String email;
 
     @Length(min = 2, max = 32, message = "Name not be less than 2 characters")
     @Schema(description = "사용자 이름", example = "홍길동")
+    @ToString.Exclude
     private String name;
 
     @Length(min = 11, max = 13, message = "Phone not be less than 11 characters")
     @Schema(description = "사용자 전화번호", example = "010-1234-5678")
+    @ToString.Exclude
     private String phone;
 
     @CreationTimestamp
@@ -54,4 +62,9 @@ public class MemberEntity {
     @UpdateTimestamp
     private LocalDateTime mod_dt;
 
+    // 낙관적 잠금, ETag
+    @Version
+    @Schema(description = "버전", example = "0")
+    private Long version;
+
 }
\ No newline at end of file
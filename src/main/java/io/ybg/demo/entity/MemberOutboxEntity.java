@@ -0,0 +1,46 @@
+package io.ybg.demo.entity;
+
+import io.ybg.demo.event.MemberChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * member 변경 기록 (transactional outbox). 쓰기와 같은 트랜잭션에서 추가된다.
+ * seq 는 relay 가 발행 시 부여하는 연속 번호, /member/v1/changes 는 발행된 행만 seq 순으로 읽는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(indexes = @Index(name = "member_outbox_pub_dt", columnList = "pub_dt"))
+public class MemberOutboxEntity {
+
+    // DB 호출 없이 생성 -> insert 가 jdbc batch 로 묶임
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // 발행 전 null, unique -> 여러 instance 의 relay 가 같은 번호를 부여하면 나중 commit 이 실패
+    @Column(unique = true)
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private MemberChangedEvent.Type type;
+
+    @CreationTimestamp
+    private LocalDateTime reg_dt;
+    private LocalDateTime pub_dt;
+
+    // 같은 행을 두 relay 가 동시에 발행하지 않도록
+    @Version
+    private Long version;
+}
@@ -0,0 +1,35 @@
+package io.ybg.demo.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 member (tombstone). /member/v1/modified-since 가 삭제까지 전달하도록 삭제와 같은 트랜잭션에서 추가된다.
+ * member.delta.tombstone-retention 이 지나면 삭제.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(indexes = @Index(name = "member_tombstone_del_dt", columnList = "del_dt, id"))
+public class MemberTombstoneEntity implements Persistable<Long> {
+
+    // 삭제된 member 의 PK
+    @Id
+    private Long id;
+
+    private LocalDateTime del_dt;
+
+    // id 는 다시 쓰이지 않으므로 항상 insert (merge 전 조회 생략)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
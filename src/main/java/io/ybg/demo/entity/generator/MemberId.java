@@ -0,0 +1,19 @@
+package io.ybg.demo.entity.generator;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * member_seq 기반 id 생성, increment size / optimizer 는 MemberIdGenerator 참고.
+ */
+@IdGeneratorType(MemberIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface MemberId {
+}
@@ -0,0 +1,35 @@
+package io.ybg.demo.entity.generator;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * member_seq 기반 id 생성기.
+ * allocation(increment) size 와 optimizer 를 hibernate 설정으로 조정한다.
+ * <pre>
+ * spring.jpa.properties.hibernate.member.id.increment_size: 50
+ * spring.jpa.properties.hibernate.member.id.optimizer: pooled-lo
+ * </pre>
+ */
+public class MemberIdGenerator extends SequenceStyleGenerator {
+    public static final String SEQUENCE = "member_seq";
+    public static final String INCREMENT_SETTING = "hibernate.member.id.increment_size";
+    public static final String OPTIMIZER_SETTING = "hibernate.member.id.optimizer";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService settings = serviceRegistry.requireService(ConfigurationService.class);
+
+        parameters.put(SEQUENCE_PARAM, SEQUENCE);
+        parameters.put(INCREMENT_PARAM, String.valueOf(settings.getSetting(INCREMENT_SETTING, StandardConverters.INTEGER, 50)));
+        parameters.put(OPT_PARAM, settings.getSetting(OPTIMIZER_SETTING, StandardConverters.STRING, StandardOptimizerDescriptor.POOLED_LO.getExternalName()));
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package io.ybg.demo.entity.generator;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * insert 시 uuid 생성, version 은 hibernate.member.uuid.version(4 | 7) 설정을 따른다.
+ */
+@ValueGenerationType(generatedBy = MemberUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface MemberUuid {
+}
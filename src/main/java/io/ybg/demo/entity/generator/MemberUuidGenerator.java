@@ -0,0 +1,35 @@
+package io.ybg.demo.entity.generator;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+
+public class MemberUuidGenerator implements BeforeExecutionGenerator {
+    public static final String VERSION_SETTING = "hibernate.member.uuid.version";
+
+    private final boolean timeOrdered;
+
+    public MemberUuidGenerator(MemberUuid config, Member member, GeneratorCreationContext context) {
+        ConfigurationService settings = context.getServiceRegistry().requireService(ConfigurationService.class);
+        this.timeOrdered = "7".equals(settings.getSetting(VERSION_SETTING, StandardConverters.STRING, "4"));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        // v7 : 시간순 증가 -> index 가 뒤쪽에만 추가됨
+        return timeOrdered ? UuidV7.randomUUID() : UUID.randomUUID();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,35 @@
+package io.ybg.demo.entity.generator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 UUID version 7.
+ * 48bit unix ms + 12bit 단조 증가 counter(rand_a) + 62bit random.
+ * 같은 ms 안에서도 생성 순서대로 정렬된다.
+ */
+public final class UuidV7 {
+    // (unix ms << 12) | counter
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUUID() {
+        long now = System.currentTimeMillis();
+        long state;
+        long next;
+        do {
+            state = LAST.get();
+            // 새로운 ms 면 counter 를 절반 범위 안에서 랜덤 시작, 같은(또는 역행한) ms 면 +1 (overflow 시 ms 로 올림)
+            next = now > (state >>> 12)
+                    ? (now << 12) | ThreadLocalRandom.current().nextInt(1 << 11)
+                    : state + 1;
+        } while (!LAST.compareAndSet(state, next));
+
+        long msb = ((next >>> 12) << 16) | 0x7000L | (next & 0xfffL);
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
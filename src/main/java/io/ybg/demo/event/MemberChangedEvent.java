@@ -0,0 +1,19 @@
+package io.ybg.demo.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * member 쓰기 이벤트. 쓰기 트랜잭션 안에서 발행하고 @TransactionalEventListener 로 받으면
+ * commit 된 경우에만 전달된다 (rollback 시 버림).
+ */
+public record MemberChangedEvent(Type type, Collection<Long> ids) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static MemberChangedEvent of(Type type, Long id) {
+        return new MemberChangedEvent(type, List.of(id));
+    }
+}
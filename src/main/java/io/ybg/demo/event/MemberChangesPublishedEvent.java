@@ -0,0 +1,12 @@
+package io.ybg.demo.event;
+
+import io.ybg.demo.dto.MemberDTO;
+
+import java.util.List;
+
+/**
+ * outbox relay 가 발행한 변경, seq 순 (member 는 비어 있음).
+ * relay 트랜잭션 안에서 발행하므로 외부 broker 연동 등은 @TransactionalEventListener 로 받는다.
+ */
+public record MemberChangesPublishedEvent(List<MemberDTO.ChangeDTO> changes) {
+}
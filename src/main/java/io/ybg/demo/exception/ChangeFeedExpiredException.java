@@ -0,0 +1,19 @@
+package io.ybg.demo.exception;
+
+public class ChangeFeedExpiredException extends MemberException {
+    private final long since;
+    private final long oldest;
+
+    /**
+     * @param oldest 남아 있는 가장 오래된 seq
+     */
+    public ChangeFeedExpiredException(long since, long oldest) {
+        this.since = since;
+        this.oldest = oldest;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Changes after " + since + " expired (oldest " + oldest + "), resync from /member/v1";
+    }
+}
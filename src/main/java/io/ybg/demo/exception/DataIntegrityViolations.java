@@ -0,0 +1,23 @@
+package io.ybg.demo.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * DB 제약 위반 로그용 요약. 서비스와 예외 처리기가 함께 사용한다.
+ */
+public final class DataIntegrityViolations {
+
+    private DataIntegrityViolations() {
+    }
+
+    /**
+     * DB 오류 메시지에는 입력 값(email 등)이 포함되므로 예외 종류와 제약 이름만 남긴다.
+     */
+    public static String summary(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation) {
+            return "constraint " + violation.getConstraintName();
+        }
+        return e.getMostSpecificCause().getClass().getSimpleName();
+    }
+}
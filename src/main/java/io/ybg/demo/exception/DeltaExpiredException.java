@@ -0,0 +1,21 @@
+package io.ybg.demo.exception;
+
+import java.time.LocalDateTime;
+
+public class DeltaExpiredException extends MemberException {
+    private final LocalDateTime since;
+    private final LocalDateTime oldest;
+
+    /**
+     * @param oldest 삭제 기록이 남아 있는 가장 오래된 시각
+     */
+    public DeltaExpiredException(LocalDateTime since, LocalDateTime oldest) {
+        this.since = since;
+        this.oldest = oldest;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Changes since " + since + " expired (oldest " + oldest + "), resync from /member/v1";
+    }
+}
@@ -0,0 +1,21 @@
+package io.ybg.demo.exception;
+
+public class DuplicateEmailException extends MemberException {
+    private final String action;
+
+    public DuplicateEmailException() {
+        this(null);
+    }
+
+    /**
+     * @param action Update 등, null 이면 가입
+     */
+    public DuplicateEmailException(String action) {
+        this.action = action;
+    }
+
+    @Override
+    public String getMessage() {
+        return action == null ? "Email already exists" : action + " Email already exists";
+    }
+}
@@ -0,0 +1,21 @@
+package io.ybg.demo.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+public class IngestQueueFullException extends MemberException {
+    private final int capacity;
+    @Getter
+    private final Duration retryAfter;
+
+    public IngestQueueFullException(int capacity, Duration retryAfter) {
+        this.capacity = capacity;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Ingest queue is full (capacity " + capacity + ")";
+    }
+}
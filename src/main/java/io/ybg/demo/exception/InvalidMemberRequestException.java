@@ -0,0 +1,18 @@
+package io.ybg.demo.exception;
+
+/**
+ * 요청 한도(batch 건수, 검색어 길이, 페이지 범위 등)나 입력 형식 위반 -> 400.
+ * 그 외 IllegalArgumentException 은 내부 오류이므로 400 으로 바꾸지 않는다.
+ */
+public class InvalidMemberRequestException extends MemberException {
+    private final String reason;
+
+    public InvalidMemberRequestException(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return reason;
+    }
+}
@@ -0,0 +1,15 @@
+package io.ybg.demo.exception;
+
+/**
+ * 404/409/412 등 정상 흐름의 결과를 나타내는 도메인 예외.
+ * stack trace 를 채우지 않고, 메시지는 로그/응답에 쓰일 때만 만든다.
+ */
+public abstract class MemberException extends RuntimeException {
+
+    protected MemberException() {
+        super(null, null, false, false);
+    }
+
+    @Override
+    public abstract String getMessage();
+}
@@ -0,0 +1,102 @@
+package io.ybg.demo.exception;
+
+import io.ybg.demo.component.LogSampler;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.time.Duration;
+
+/**
+ * 도메인 예외 -> Problem Details (RFC 9457).
+ * 처리한 예외는 http.server.requests 의 exception tag 로 남긴다.
+ */
+@RestControllerAdvice
+@Slf4j
+public class MemberExceptionHandler {
+    // 가입/수정 충돌은 부하 시 초당 수천 건 -> 10초에 5건만 남김
+    private static final LogSampler DUPLICATE_EMAIL_LOG = new LogSampler(Duration.ofSeconds(10), 5);
+    private static final LogSampler DATA_INTEGRITY_LOG = new LogSampler(Duration.ofSeconds(10), 5);
+
+    @ExceptionHandler(MemberNotFoundException.class)
+    public ProblemDetail notFound(MemberNotFoundException e, HttpServletRequest request) {
+        return problem(HttpStatus.NOT_FOUND, "Member not found", e, request);
+    }
+
+    @ExceptionHandler(DuplicateEmailException.class)
+    public ProblemDetail duplicateEmail(DuplicateEmailException e, HttpServletRequest request) {
+        long suppressed = DUPLICATE_EMAIL_LOG.acquire();
+        if (suppressed >= 0) {
+            log.warn("Duplicate email on {} {} (suppressed {})", request.getMethod(), request.getRequestURI(), suppressed);
+        }
+        return problem(HttpStatus.CONFLICT, "Email already exists", e, request);
+    }
+
+    @ExceptionHandler({MemberVersionMismatchException.class, OptimisticLockingFailureException.class})
+    public ProblemDetail versionMismatch(RuntimeException e, HttpServletRequest request) {
+        return problem(HttpStatus.PRECONDITION_FAILED, "Version mismatch", e, request);
+    }
+
+    // 변경 기록 보관 기간 초과 -> 목록 재동기화
+    @ExceptionHandler({ChangeFeedExpiredException.class, DeltaExpiredException.class})
+    public ProblemDetail changesExpired(RuntimeException e, HttpServletRequest request) {
+        return problem(HttpStatus.GONE, "Changes expired", e, request);
+    }
+
+    // 잠시 후 재시도 (Retry-After 초)
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<ProblemDetail> ingestQueueFull(IngestQueueFullException e, HttpServletRequest request) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", e, e.getRetryAfter(), request);
+    }
+
+    @ExceptionHandler(RateLimitedException.class)
+    public ResponseEntity<ProblemDetail> rateLimited(RateLimitedException e, HttpServletRequest request) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, "Too many requests", e, e.getRetryAfter(), request);
+    }
+
+    // 동시 처리 한도 초과 : client 가 아닌 서버 상태이므로 503
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<ProblemDetail> overloaded(OverloadedException e, HttpServletRequest request) {
+        return retryLater(HttpStatus.SERVICE_UNAVAILABLE, "Service overloaded", e, e.getRetryAfter(), request);
+    }
+
+    // 요청 한도/형식 위반만 400, 다른 IllegalArgumentException 은 내부 오류 (메시지 노출 안 함)
+    @ExceptionHandler(InvalidMemberRequestException.class)
+    public ProblemDetail badRequest(InvalidMemberRequestException e, HttpServletRequest request) {
+        return problem(HttpStatus.BAD_REQUEST, "Bad request", e, request);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail dataIntegrity(DataIntegrityViolationException e, HttpServletRequest request) {
+        long suppressed = DATA_INTEGRITY_LOG.acquire();
+        if (suppressed >= 0) {
+            log.warn("Data integrity violation on {} {} : {} (suppressed {})", request.getMethod(), request.getRequestURI(), DataIntegrityViolations.summary(e), suppressed);
+        }
+        // 내부 제약 정보는 응답에 포함하지 않음
+        ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> context.setError(e));
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Data integrity violation");
+    }
+
+    // Retry-After 는 초 단위, 올림 (최소 1)
+    private static ResponseEntity<ProblemDetail> retryLater(HttpStatus status, String title, RuntimeException e, Duration retryAfter, HttpServletRequest request) {
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max((retryAfter.toMillis() + 999) / 1000, 1)))
+                .body(problem(status, title, e, request));
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String title, RuntimeException e, HttpServletRequest request) {
+        log.debug("{} {} : {}", status.value(), request.getRequestURI(), e.getMessage());
+        ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> context.setError(e));
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, e.getMessage());
+        problem.setTitle(title);
+        return problem;
+    }
+}
@@ -0,0 +1,22 @@
+package io.ybg.demo.exception;
+
+public class MemberNotFoundException extends MemberException {
+    private final String action;
+    private final String key;
+    private final Object value;
+
+    /**
+     * @param action Find, Update, Delete
+     * @param key    id, uuid
+     */
+    public MemberNotFoundException(String action, String key, Object value) {
+        this.action = action;
+        this.key = key;
+        this.value = value;
+    }
+
+    @Override
+    public String getMessage() {
+        return action + " Member with " + key + ": " + value + " doesn't exist";
+    }
+}
@@ -0,0 +1,21 @@
+package io.ybg.demo.exception;
+
+public class MemberVersionMismatchException extends MemberException {
+    private final String action;
+    private final Long id;
+    private final Object expected;
+
+    /**
+     * @param expected If-Match 로 받은 버전(또는 해석할 수 없는 헤더 값)
+     */
+    public MemberVersionMismatchException(String action, Long id, Object expected) {
+        this.action = action;
+        this.id = id;
+        this.expected = expected;
+    }
+
+    @Override
+    public String getMessage() {
+        return action + " Member with id: " + id + " version doesn't match " + expected;
+    }
+}
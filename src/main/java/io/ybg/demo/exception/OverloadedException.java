@@ -0,0 +1,21 @@
+package io.ybg.demo.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+public class OverloadedException extends MemberException {
+    private final int limit;
+    @Getter
+    private final Duration retryAfter;
+
+    public OverloadedException(int limit, Duration retryAfter) {
+        this.limit = limit;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Server is overloaded (concurrency limit " + limit + ")";
+    }
+}
@@ -0,0 +1,21 @@
+package io.ybg.demo.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+public class RateLimitedException extends MemberException {
+    private final String policy;
+    @Getter
+    private final Duration retryAfter;
+
+    public RateLimitedException(String policy, Duration retryAfter) {
+        this.policy = policy;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Rate limit exceeded (" + policy + ")";
+    }
+}
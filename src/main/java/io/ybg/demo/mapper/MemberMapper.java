@@ -4,6 +4,7 @@ import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.factory.Mappers;
@@ -21,8 +22,26 @@ public interface MemberMapper {
 
     List<MemberDTO.InfoMemberDTO> MemberToInfo(List<MemberEntity> memberEntity);
 
+    // id, uuid, 시각, 버전은 요청으로 받지 않음 (DB/JPA 가 채움)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "reg_dt", ignore = true)
+    @Mapping(target = "mod_dt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     MemberEntity UpdateToMember(MemberDTO.UpdateMemberDTO updateDTO);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "reg_dt", ignore = true)
+    @Mapping(target = "mod_dt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     MemberEntity CreateToMember(MemberDTO.CreateMemberDTO member);
 
+    // id 는 요청 값 사용
+    @Mapping(target = "uuid", ignore = true)
+    @Mapping(target = "reg_dt", ignore = true)
+    @Mapping(target = "mod_dt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    MemberEntity BatchUpdateToMember(MemberDTO.BatchUpdateMemberDTO updateDTO);
+
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package io.ybg.demo.repository;
+
+import io.ybg.demo.entity.MemberOutboxEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface MemberOutboxRepo extends JpaRepository<MemberOutboxEntity, UUID> {
+
+    // 발행 대기, 기록 순
+    @Query("select o from MemberOutboxEntity o where o.seq is null order by o.reg_dt, o.id")
+    List<MemberOutboxEntity> findUnpublished(Limit limit);
+
+    @Query("select coalesce(max(o.seq), 0) from MemberOutboxEntity o")
+    long findMaxSeq();
+
+    // keyset 페이지 : seq > since, count 쿼리 없이 size + 1 조회로 다음 페이지 판단
+    @Transactional(readOnly = true)
+    @Query("select o from MemberOutboxEntity o where o.seq > :since")
+    Slice<MemberOutboxEntity> findPublishedAfter(long since, Pageable pageable);
+
+    // 가장 최근 seq 는 남김 -> 모두 지워져도 다음 seq 가 이어짐
+    @Transactional
+    @Modifying
+    @Query("delete from MemberOutboxEntity o where o.pub_dt < :before and o.seq < :keep")
+    int deletePublishedBefore(LocalDateTime before, long keep);
+}
@@ -0,0 +1,67 @@
+package io.ybg.demo.repository;
+
+import io.r2dbc.spi.Readable;
+import io.ybg.demo.dto.MemberDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * member_entity 테이블 non-blocking 조회 (쓰기는 MemberRepo).
+ * 결과는 entity 를 거치지 않고 바로 InfoMemberDTO 로 변환한다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "member.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MemberReactiveRepo {
+    private static final String SELECT = "select id, uuid, email, name, phone, reg_dt, mod_dt, version from member_entity ";
+
+    private final DatabaseClient memberDatabaseClient;
+
+    public Flux<MemberDTO.InfoMemberDTO> findAll() {
+        return memberDatabaseClient.sql(SELECT + "order by id")
+                .map(MemberReactiveRepo::toInfo)
+                .all();
+    }
+
+    public Flux<MemberDTO.InfoMemberDTO> findAfter(long cursor, int size) {
+        return memberDatabaseClient.sql(SELECT + "where id > :cursor order by id limit :size")
+                .bind("cursor", cursor)
+                .bind("size", size)
+                .map(MemberReactiveRepo::toInfo)
+                .all();
+    }
+
+    public Mono<MemberDTO.InfoMemberDTO> findById(long id) {
+        return memberDatabaseClient.sql(SELECT + "where id = :id")
+                .bind("id", id)
+                .map(MemberReactiveRepo::toInfo)
+                .one();
+    }
+
+    public Mono<MemberDTO.InfoMemberDTO> findByUuid(UUID uuid) {
+        return memberDatabaseClient.sql(SELECT + "where uuid = :uuid")
+                .bind("uuid", uuid)
+                .map(MemberReactiveRepo::toInfo)
+                .one();
+    }
+
+    private static MemberDTO.InfoMemberDTO toInfo(Readable row) {
+        return MemberDTO.InfoMemberDTO.builder()
+                .id(row.get("id", Long.class))
+                .uuid(row.get("uuid", UUID.class))
+                .email(row.get("email", String.class))
+                .name(row.get("name", String.class))
+                .phone(row.get("phone", String.class))
+                .reg_dt(row.get("reg_dt", LocalDateTime.class))
+                .mod_dt(row.get("mod_dt", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
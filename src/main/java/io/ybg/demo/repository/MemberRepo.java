@@ -1,8 +1,139 @@
 package io.ybg.demo.repository;
 
+import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MemberRepo extends JpaRepository<MemberEntity, Long> {
+    int STREAM_FETCH_SIZE = 500;
+
+    // 조회 전용 projection : entity 를 만들지 않으므로 1차 cache 등록, snapshot, dirty checking 없음
+    // readOnly 트랜잭션 -> flush 생략, connection read-only
+    String SELECT_INFO = "select new io.ybg.demo.dto.MemberDTO$InfoMemberDTO(m.id, m.uuid, m.email, m.name, m.phone, m.reg_dt, m.mod_dt, m.version) from MemberEntity m";
+
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 목록 변경 감지 : insert/update 는 mod_dt, delete 는 행 수로 드러남
+    @Transactional(readOnly = true)
+    @Query("select new io.ybg.demo.dto.MemberDTO$ListVersionDTO(count(m), max(m.mod_dt)) from MemberEntity m")
+    MemberDTO.ListVersionDTO findListVersion();
+
+    // member_uuid index 사용
+    @Query("select m.id from MemberEntity m where m.uuid = :uuid")
+    Optional<Long> findIdByUuid(UUID uuid);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_INFO + " where m.id = :id")
+    Optional<MemberDTO.InfoMemberDTO> findInfoById(Long id);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_INFO + " order by m.id")
+    List<MemberDTO.InfoMemberDTO> findAllInfo();
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_INFO + " where m.uuid in :uuids")
+    List<MemberDTO.InfoMemberDTO> findInfoByUuidIn(Collection<UUID> uuids);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_INFO + " where m.id in :ids")
+    List<MemberDTO.InfoMemberDTO> findInfoByIdIn(Collection<Long> ids);
+
+    // 검색 : pg_trgm GIN index (db/member-search-postgresql.sql) 로 like '%term%' 처리
+    // 점수는 MemberTrigramIndex 와 같은 기준 : 일치 1.0, 접두 0.9, 포함 0.5 ~ 0.8, 같은 점수는 id 순
+    @Query(nativeQuery = true, value = """
+            select m.id from member_entity m
+             where lower(m.name) like :contains or lower(m.email) like :contains
+             order by greatest(
+                      case when lower(m.name) = :term then 1.0
+                           when lower(m.name) like :prefix then 0.9
+                           when lower(m.name) like :contains then 0.5 + 0.3 * length(:term) / length(m.name)
+                           else 0 end,
+                      case when lower(m.email) = :term then 1.0
+                           when lower(m.email) like :prefix then 0.9
+                           when lower(m.email) like :contains then 0.5 + 0.3 * length(:term) / length(m.email)
+                           else 0 end) desc, m.id
+             limit :limit offset :offset
+            """)
+    List<Long> searchIdsByText(String term, String prefix, String contains, int limit, int offset);
+
+    @Query(nativeQuery = true, value = """
+            select m.id from member_entity m
+             where replace(m.phone, '-', '') like :contains
+             order by case when replace(m.phone, '-', '') = :term then 1.0
+                           when replace(m.phone, '-', '') like :prefix then 0.9
+                           else 0.5 + 0.3 * length(:term) / length(replace(m.phone, '-', '')) end desc, m.id
+             limit :limit offset :offset
+            """)
+    List<Long> searchIdsByPhone(String term, String prefix, String contains, int limit, int offset);
+
+    // 현재 트랜잭션에만 적용되는 구문 제한 시간 (PostgreSQL), 초과 시 QueryTimeoutException
+    @Query(nativeQuery = true, value = "select set_config('statement_timeout', :millis, true)")
+    String setLocalStatementTimeout(String millis);
+
+    // batch 중복 검사 : chunk 당 IN 쿼리 1회
+    @Query("select m.email from MemberEntity m where m.email in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("select m.id from MemberEntity m where m.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // 단일 문장 수정 : null 항목은 유지, version 이 null 이면 버전 검사 생략
+    // 영향 행 수 0 -> 미존재 또는 버전 불일치, 이메일 중복은 unique 제약으로 판단
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update MemberEntity m
+               set m.email = coalesce(:email, m.email),
+                   m.name = coalesce(:name, m.name),
+                   m.phone = coalesce(:phone, m.phone),
+                   m.mod_dt = :modDt,
+                   m.version = m.version + 1
+             where m.id = :id
+               and (:version is null or m.version = :version)
+            """)
+    int updateById(Long id, String email, String name, String phone, Long version, LocalDateTime modDt);
+
+    // 단일 문장 삭제 : deleteById 와 달리 엔티티를 먼저 읽지 않음
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from MemberEntity m where m.id = :id and (:version is null or m.version = :version)")
+    int deleteByIdAndVersion(Long id, Long version);
+
+    // keyset 페이지 : id > cursor, count 쿼리 없이 size + 1 조회로 다음 페이지 판단
+    @Transactional(readOnly = true)
+    @Query(SELECT_INFO + " where m.id > :id")
+    Slice<MemberDTO.InfoMemberDTO> findInfoByIdGreaterThan(Long id, Pageable pageable);
+
+    // delta : member_mod_dt index 의 keyset (mod_dt, id) > (modDt, id), until 이전만
+    @Transactional(readOnly = true)
+    @Query(SELECT_INFO + " where (m.mod_dt, m.id) > (:modDt, :id) and m.mod_dt < :until order by m.mod_dt, m.id")
+    List<MemberDTO.InfoMemberDTO> findInfoModifiedAfter(LocalDateTime modDt, long id, LocalDateTime until, Limit limit);
+
+    // 전체 스트리밍 : 반드시 트랜잭션 안에서 사용 후 close
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_INFO + " order by m.id")
+    Stream<MemberDTO.InfoMemberDTO> streamAllInfo();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("select m.email from MemberEntity m")
+    Stream<String> streamAllEmails();
+}
@@ -0,0 +1,29 @@
+package io.ybg.demo.repository;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MemberTombstoneRepo extends JpaRepository<MemberTombstoneEntity, Long> {
+
+    // member_tombstone_del_dt index 의 keyset (del_dt, id) > (delDt, id), until 이전만
+    @Transactional(readOnly = true)
+    @Query("""
+            select new io.ybg.demo.dto.MemberDTO$TombstoneDTO(t.id, t.del_dt) from MemberTombstoneEntity t
+             where (t.del_dt, t.id) > (:delDt, :id) and t.del_dt < :until
+             order by t.del_dt, t.id
+            """)
+    List<MemberDTO.TombstoneDTO> findDeletedAfter(LocalDateTime delDt, long id, LocalDateTime until, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MemberTombstoneEntity t where t.del_dt < :before")
+    int deleteBefore(LocalDateTime before);
+}
@@ -0,0 +1,254 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.component.EmailFilter;
+import io.ybg.demo.config.CacheConfig;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.dto.MemberDTO.BatchResultDTO;
+import io.ybg.demo.dto.MemberDTO.BatchStatus;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.exception.DataIntegrityViolations;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.mapper.MemberMapper;
+import io.ybg.demo.repository.MemberRepo;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 가입/수정/삭제.
+ * chunk 단위 트랜잭션으로 처리하며 중복 검사는 chunk 당 IN 쿼리 1회로 끝낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "member.service", histogram = true)
+public class MemberBatchService {
+
+    private final MemberRepo memberRepo;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EmailFilter emailFilter;
+    private final MemberProperties memberProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    public List<BatchResultDTO> saveMembers(List<MemberDTO.CreateMemberDTO> members) {
+        checkSize(members);
+        BatchResultDTO[] results = new BatchResultDTO[members.size()];
+        Set<String> requested = new HashSet<>();
+
+        forEachChunk(members.size(), (from, to) -> {
+            Map<Integer, MemberEntity> pending = new LinkedHashMap<>();
+            for (int i = from; i < to; i++) {
+                String invalid = validate(members.get(i));
+                if (invalid != null) {
+                    results[i] = result(i, null, BatchStatus.INVALID, invalid);
+                } else if (!requested.add(members.get(i).getEmail())) {
+                    results[i] = result(i, null, BatchStatus.CONFLICT, "Email duplicated in request");
+                } else {
+                    pending.put(i, MemberMapper.INSTANCE.CreateToMember(members.get(i)));
+                }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Set<String> existing = new HashSet<>(memberRepo.findExistingEmails(
+                            pending.values().stream().map(MemberEntity::getEmail).toList()));
+                    pending.entrySet().removeIf(e -> {
+                        if (existing.contains(e.getValue().getEmail())) {
+                            results[e.getKey()] = result(e.getKey(), null, BatchStatus.CONFLICT, "Email already exists");
+                            return true;
+                        }
+                        return false;
+                    });
+
+                    memberRepo.saveAll(pending.values());
+                    flushAndClear();
+                    changed(MemberChangedEvent.Type.CREATED, pending.values().stream().map(MemberEntity::getId).toList());
+                });
+                pending.forEach((i, m) -> {
+                    emailFilter.put(m.getEmail());
+                    results[i] = result(i, m.getId(), BatchStatus.CREATED, null);
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Error saving Member chunk [{}, {}) : {}", from, to, DataIntegrityViolations.summary(e));
+                pending.keySet().forEach(i -> results[i] = result(i, null, BatchStatus.FAILED, "Chunk rolled back"));
+            }
+        });
+
+        return Arrays.asList(results);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    public List<BatchResultDTO> updateMembers(List<MemberDTO.BatchUpdateMemberDTO> members) {
+        checkSize(members);
+        BatchResultDTO[] results = new BatchResultDTO[members.size()];
+        Set<Long> requestedIds = new HashSet<>();
+        Set<String> requestedEmails = new HashSet<>();
+
+        forEachChunk(members.size(), (from, to) -> {
+            Map<Integer, MemberEntity> pending = new LinkedHashMap<>();
+            for (int i = from; i < to; i++) {
+                String invalid = validate(members.get(i));
+                if (invalid != null) {
+                    results[i] = result(i, members.get(i).getId(), BatchStatus.INVALID, invalid);
+                } else if (!requestedIds.add(members.get(i).getId()) || !requestedEmails.add(members.get(i).getEmail())) {
+                    results[i] = result(i, members.get(i).getId(), BatchStatus.CONFLICT, "Id or Email duplicated in request");
+                } else {
+                    pending.put(i, MemberMapper.INSTANCE.BatchUpdateToMember(members.get(i)));
+                }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<Long, MemberEntity> existing = memberRepo.findAllById(pending.values().stream().map(MemberEntity::getId).toList())
+                            .stream().collect(Collectors.toMap(MemberEntity::getId, Function.identity()));
+                    // 이메일이 바뀌는 대상만 중복 검사
+                    Set<String> taken = new HashSet<>(memberRepo.findExistingEmails(pending.values().stream()
+                            .filter(m -> existing.containsKey(m.getId()) && !m.getEmail().equals(existing.get(m.getId()).getEmail()))
+                            .map(MemberEntity::getEmail)
+                            .toList()));
+
+                    pending.entrySet().removeIf(e -> {
+                        MemberEntity update = e.getValue();
+                        MemberEntity member = existing.get(update.getId());
+                        if (member == null) {
+                            results[e.getKey()] = result(e.getKey(), update.getId(), BatchStatus.NOT_FOUND, "Member doesn't exist");
+                            return true;
+                        }
+                        if (!update.getEmail().equals(member.getEmail()) && taken.contains(update.getEmail())) {
+                            results[e.getKey()] = result(e.getKey(), update.getId(), BatchStatus.CONFLICT, "Email already exists");
+                            return true;
+                        }
+                        // dirty checking -> flush 시 update batch
+                        MemberMapper.INSTANCE.Update(member, update);
+                        return false;
+                    });
+
+                    flushAndClear();
+                    changed(MemberChangedEvent.Type.UPDATED, pending.values().stream().map(MemberEntity::getId).toList());
+                });
+                pending.forEach((i, m) -> {
+                    emailFilter.put(m.getEmail());
+                    results[i] = result(i, m.getId(), BatchStatus.UPDATED, null);
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Error updating Member chunk [{}, {}) : {}", from, to, DataIntegrityViolations.summary(e));
+                pending.forEach((i, m) -> results[i] = result(i, m.getId(), BatchStatus.FAILED, "Chunk rolled back"));
+            }
+        });
+
+        return Arrays.asList(results);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    public List<BatchResultDTO> deleteMembers(List<Long> ids) {
+        checkSize(ids);
+        BatchResultDTO[] results = new BatchResultDTO[ids.size()];
+
+        forEachChunk(ids.size(), (from, to) -> {
+            List<Long> chunk = ids.subList(from, to);
+            try {
+                Set<Long> deleted = transactionTemplate.execute(status -> {
+                    Set<Long> existing = new HashSet<>(memberRepo.findExistingIds(chunk));
+                    // delete ... where id in (...) 1회
+                    memberRepo.deleteAllByIdInBatch(existing);
+                    changed(MemberChangedEvent.Type.DELETED, existing);
+                    return existing;
+                });
+                for (int i = from; i < to; i++) {
+                    Long id = ids.get(i);
+                    results[i] = deleted != null && deleted.contains(id)
+                            ? result(i, id, BatchStatus.DELETED, null)
+                            : result(i, id, BatchStatus.NOT_FOUND, "Member doesn't exist");
+                }
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Error deleting Member chunk [{}, {}) : {}", from, to, DataIntegrityViolations.summary(e));
+                for (int i = from; i < to; i++) {
+                    results[i] = result(i, ids.get(i), BatchStatus.FAILED, "Chunk rolled back");
+                }
+            }
+        });
+
+        return Arrays.asList(results);
+    }
+
+    // chunk 트랜잭션 안에서 발행 -> commit 된 chunk 만 전달
+    private void changed(MemberChangedEvent.Type type, Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(new MemberChangedEvent(type, List.copyOf(ids)));
+        }
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > memberProperties.getBatch().getMaxItems()) {
+            throw new InvalidMemberRequestException("Batch size " + items.size() + " exceeds " + memberProperties.getBatch().getMaxItems());
+        }
+    }
+
+    private void forEachChunk(int size, ChunkConsumer consumer) {
+        int chunkSize = memberProperties.getBatch().getChunkSize();
+        for (int from = 0; from < size; from += chunkSize) {
+            consumer.accept(from, Math.min(from + chunkSize, size));
+        }
+    }
+
+    // 1차 캐시가 chunk 마다 비워지도록, flush 는 repository 를 거쳐 예외 변환
+    private void flushAndClear() {
+        memberRepo.flush();
+        entityManager.clear();
+    }
+
+    private String validate(Object dto) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " : " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static BatchResultDTO result(int index, Long id, BatchStatus status, String message) {
+        return new BatchResultDTO(index, id, status, message);
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(int from, int to);
+    }
+}
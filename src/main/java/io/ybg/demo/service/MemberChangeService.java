@@ -0,0 +1,143 @@
+package io.ybg.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberOutboxEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.exception.ChangeFeedExpiredException;
+import io.ybg.demo.exception.DeltaExpiredException;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.repository.MemberOutboxRepo;
+import io.ybg.demo.repository.MemberRepo;
+import io.ybg.demo.repository.MemberTombstoneRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 변경 건수만큼만 동기화 (전체 목록을 다시 읽지 않음).
+ * /member/v1/changes : outbox 에서 발행된 변경을 seq 순으로 읽고 현재 값을 붙인다. 페이지 당 outbox 1회 + member 1회 조회.
+ * /member/v1/modified-since : mod_dt 와 tombstone 을 (시각, id) keyset 으로 읽는다. 페이지 당 member 1회 + tombstone 1회 조회.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "member.service", histogram = true)
+@Transactional(readOnly = true)
+public class MemberChangeService {
+
+    private final MemberOutboxRepo memberOutboxRepo;
+    private final MemberRepo memberRepo;
+    private final MemberTombstoneRepo memberTombstoneRepo;
+    private final MemberProperties memberProperties;
+
+    /**
+     * @param since 마지막으로 받은 seq, 처음이면 0
+     * @throws ChangeFeedExpiredException since 이후 변경 일부가 보관 기간이 지나 삭제됨
+     */
+    public MemberDTO.ChangesDTO getChanges(long since, Integer size) {
+        if (since < 0) {
+            throw new InvalidMemberRequestException("Since must not be negative");
+        }
+        MemberProperties.Outbox outbox = memberProperties.getOutbox();
+        int pageSize = size == null ? outbox.getDefaultSize() : Math.min(Math.max(size, 1), outbox.getMaxSize());
+
+        Slice<MemberOutboxEntity> slice = memberOutboxRepo.findPublishedAfter(since, PageRequest.of(0, pageSize, Sort.by("seq")));
+        List<MemberOutboxEntity> changes = slice.getContent();
+        if (changes.isEmpty()) {
+            return new MemberDTO.ChangesDTO(List.of(), since, false);
+        }
+        // seq 는 빈 번호 없이 부여됨 -> 첫 seq 가 since + 1 이 아니면 사이 변경이 삭제됨
+        if (changes.getFirst().getSeq() > since + 1) {
+            throw new ChangeFeedExpiredException(since, changes.getFirst().getSeq());
+        }
+
+        List<Long> ids = changes.stream()
+                .filter(c -> c.getType() != MemberChangedEvent.Type.DELETED)
+                .map(MemberOutboxEntity::getMemberId)
+                .distinct()
+                .toList();
+        Map<Long, MemberDTO.InfoMemberDTO> members = ids.isEmpty() ? Map.of() : memberRepo.findInfoByIdIn(ids).stream()
+                .collect(Collectors.toMap(MemberDTO.InfoMemberDTO::getId, Function.identity()));
+
+        // 이후 삭제된 member 는 null (뒤에 DELETED 변경이 옴)
+        List<MemberDTO.ChangeDTO> result = changes.stream()
+                .map(c -> new MemberDTO.ChangeDTO(c.getSeq(), c.getType(), c.getMemberId(), c.getReg_dt(),
+                        c.getType() == MemberChangedEvent.Type.DELETED ? null : members.get(c.getMemberId())))
+                .toList();
+        return new MemberDTO.ChangesDTO(result, changes.getLast().getSeq(), slice.hasNext());
+    }
+
+    /**
+     * since 이후 생성/수정된 member 와 삭제된 id, (시각, id) 순으로 합쳐 최대 size 건.
+     * 현재 - settle 이후 변경은 다음 요청에서 반환 (commit 이 늦은 쓰기를 건너뛰지 않도록).
+     *
+     * @param since null 이면 변경 없이 현재 기준점(nextSince)만 반환 -> 목록을 받은 뒤 이 값부터 동기화
+     * @param id    같은 시각 안의 마지막 id (keyset), 처음이면 0
+     * @throws DeltaExpiredException since 가 tombstone 보관 기간보다 오래됨
+     */
+    public MemberDTO.DeltaDTO getModifiedSince(LocalDateTime since, long id, Integer size) {
+        MemberProperties.Delta delta = memberProperties.getDelta();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(delta.getSettle());
+        if (since == null) {
+            return new MemberDTO.DeltaDTO(List.of(), List.of(), until, 0, false);
+        }
+        // 아직 settle 구간 -> 기준점 유지
+        if (!since.isBefore(until)) {
+            return new MemberDTO.DeltaDTO(List.of(), List.of(), since, id, false);
+        }
+        LocalDateTime oldest = now.minus(delta.getTombstoneRetention());
+        if (since.isBefore(oldest)) {
+            throw new DeltaExpiredException(since, oldest);
+        }
+        int pageSize = size == null ? delta.getDefaultSize() : Math.min(Math.max(size, 1), delta.getMaxSize());
+
+        // 각각 size + 1 건 -> 합친 뒤 size 건, 남으면 다음 페이지
+        List<MemberDTO.InfoMemberDTO> modified = memberRepo.findInfoModifiedAfter(since, id, until, Limit.of(pageSize + 1));
+        List<MemberDTO.TombstoneDTO> deleted = memberTombstoneRepo.findDeletedAfter(since, id, until, Limit.of(pageSize + 1));
+
+        List<MemberDTO.InfoMemberDTO> members = new ArrayList<>();
+        List<MemberDTO.TombstoneDTO> tombstones = new ArrayList<>();
+        int m = 0;
+        int d = 0;
+        LocalDateTime lastAt = null;
+        long lastId = 0;
+        while (m + d < pageSize && (m < modified.size() || d < deleted.size())) {
+            boolean takeMember = d == deleted.size() || (m < modified.size() && before(modified.get(m), deleted.get(d)));
+            if (takeMember) {
+                MemberDTO.InfoMemberDTO member = modified.get(m++);
+                members.add(member);
+                lastAt = member.getMod_dt();
+                lastId = member.getId();
+            } else {
+                MemberDTO.TombstoneDTO tombstone = deleted.get(d++);
+                tombstones.add(tombstone);
+                lastAt = tombstone.getDeletedAt();
+                lastId = tombstone.getId();
+            }
+        }
+        boolean hasNext = m < modified.size() || d < deleted.size();
+
+        // 끝까지 받았으면 until 부터 이어서 -> 변경이 없어도 since 가 보관 기간 안에 머묾
+        return hasNext
+                ? new MemberDTO.DeltaDTO(members, tombstones, lastAt, lastId, true)
+                : new MemberDTO.DeltaDTO(members, tombstones, until, 0, false);
+    }
+
+    private static boolean before(MemberDTO.InfoMemberDTO member, MemberDTO.TombstoneDTO tombstone) {
+        int compare = member.getMod_dt().compareTo(tombstone.getDeletedAt());
+        return compare < 0 || (compare == 0 && member.getId() < tombstone.getId());
+    }
+}
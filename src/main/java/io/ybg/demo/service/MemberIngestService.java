@@ -0,0 +1,260 @@
+package io.ybg.demo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ybg.demo.component.MemberIngestJournal;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.generator.UuidV7;
+import io.ybg.demo.exception.DuplicateEmailException;
+import io.ybg.demo.exception.IngestQueueFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 가입 (write-behind).
+ * 접수 : journal 기록(fsync) -> 큐 -> 202. 대기 건수가 capacity 를 넘으면 429.
+ * drainer thread 1개가 큐에 쌓인 만큼(최대 batch-size) 묶어 MemberBatchService 로 1 트랜잭션 commit 한다.
+ * 재시작 시 journal 에서 commit 되지 않은 접수를 다시 큐에 넣는다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "member.ingest", name = "enabled", havingValue = "true")
+@Slf4j
+public class MemberIngestService implements SmartLifecycle, DisposableBean {
+    private static final long POLL_MILLIS = 200;
+
+    private final MemberBatchService memberBatchService;
+    private final MemberService memberService;
+    private final MemberProperties.Ingest properties;
+    private final int batchSize;
+    private final MemberIngestJournal journal;
+
+    private final BlockingQueue<MemberIngestJournal.Pending> queue = new LinkedBlockingQueue<>();
+    // 큐 + commit 중인 건수, 접수 시 먼저 예약해 capacity 를 넘지 않게 함
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final Cache<UUID, MemberDTO.IngestStatusDTO> statuses;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter retries;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+
+    private volatile Thread drainer;
+    private volatile boolean running;
+    private boolean replayed;
+
+    public MemberIngestService(MemberBatchService memberBatchService, MemberService memberService, MemberProperties memberProperties,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.memberBatchService = memberBatchService;
+        this.memberService = memberService;
+        this.properties = memberProperties.getIngest();
+        this.batchSize = Math.min(properties.getBatchSize(), memberProperties.getBatch().getChunkSize());
+        try {
+            this.journal = new MemberIngestJournal(Path.of(properties.getJournal()), objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open ingest journal " + properties.getJournal(), e);
+        }
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(properties.getStatusMaxSize())
+                .expireAfterWrite(properties.getStatusTtl())
+                .build();
+
+        this.meterRegistry = meterRegistry;
+        this.accepted = Counter.builder("member.ingest.requests").tag("result", "accepted").register(meterRegistry);
+        this.rejected = Counter.builder("member.ingest.requests").tag("result", "rejected").register(meterRegistry);
+        this.retries = Counter.builder("member.ingest.retries").register(meterRegistry);
+        this.batchTimer = Timer.builder("member.ingest.batch").register(meterRegistry);
+        Gauge.builder("member.ingest.queued", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("member.ingest.journal.size", journal, MemberIngestJournal::size).baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 형식 검증은 controller(@Valid), 이미 있는 email 은 bloom filter/cache 로 바로 409
+     *
+     * @throws IngestQueueFullException 대기 건수 capacity 초과
+     */
+    public MemberDTO.IngestStatusDTO accept(MemberDTO.CreateMemberDTO member) {
+        if (memberService.isExistingEmail(member.getEmail())) {
+            throw new DuplicateEmailException();
+        }
+        if (inFlight.incrementAndGet() > properties.getCapacity()) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            throw new IngestQueueFullException(properties.getCapacity(), properties.getRetryAfter());
+        }
+
+        UUID trackingId = UuidV7.randomUUID();
+        try {
+            journal.sync(journal.accepted(trackingId, member));
+        } catch (IOException e) {
+            inFlight.decrementAndGet();
+            throw new UncheckedIOException("Cannot write ingest journal", e);
+        }
+        MemberDTO.IngestStatusDTO status = queued(trackingId);
+        queue.add(new MemberIngestJournal.Pending(trackingId, member));
+        accepted.increment();
+        return status;
+    }
+
+    // 만료(status-ttl) 또는 알 수 없는 id 는 null
+    public MemberDTO.IngestStatusDTO getStatus(UUID trackingId) {
+        return statuses.getIfPresent(trackingId);
+    }
+
+    public MemberDTO.IngestStatsDTO getStats() {
+        return new MemberDTO.IngestStatsDTO(inFlight.get(), properties.getCapacity(), (long) accepted.count(), (long) rejected.count(),
+                completed.get(), (long) retries.count());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (!replayed) {
+            replay();
+            replayed = true;
+        }
+        running = true;
+        Thread thread = new Thread(this::drain, "member-ingest");
+        thread.setDaemon(true);
+        thread.start();
+        drainer = thread;
+    }
+
+    // 처리 중인 batch 까지 commit, 남은 접수는 journal 에 있으므로 다음 시작 시 처리
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Thread thread = drainer;
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drainer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // web server 보다 먼저 시작, 나중에 종료 -> 종료 직전 접수도 journal 로 넘어감
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        journal.close();
+    }
+
+    private void replay() {
+        try {
+            List<MemberIngestJournal.Pending> pending = journal.replay();
+            pending.forEach(p -> queued(p.id()));
+            inFlight.addAndGet(pending.size());
+            queue.addAll(pending);
+            if (!pending.isEmpty()) {
+                log.info("Ingest journal replayed : {} pending members", pending.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read ingest journal", e);
+        }
+    }
+
+    private void drain() {
+        List<MemberIngestJournal.Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    MemberIngestJournal.Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        compact();
+                        continue;
+                    }
+                    // 기다리지 않고 쌓인 만큼만 묶음 -> 부하가 높을수록 batch 가 커짐
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                commit(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // DB 장애 등 : batch 를 유지한 채 재시도
+                retries.increment();
+                log.warn("Ingest batch of {} failed, retry in {} : {}", batch.size(), properties.getRetryInterval(), e.toString());
+                try {
+                    Thread.sleep(properties.getRetryInterval());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void commit(List<MemberIngestJournal.Pending> batch) {
+        List<MemberDTO.BatchResultDTO> results = batchTimer.record(
+                () -> memberBatchService.saveMembers(batch.stream().map(MemberIngestJournal.Pending::member).toList()));
+        List<UUID> done = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            MemberIngestJournal.Pending pending = batch.get(i);
+            MemberDTO.BatchResultDTO result = results.get(i);
+            MemberDTO.IngestStatus status = MemberDTO.IngestStatus.valueOf(result.getStatus().name());
+            statuses.put(pending.id(), new MemberDTO.IngestStatusDTO(pending.id(), status, result.getId(), result.getMessage()));
+            Counter.builder("member.ingest.results").tag("status", status.name()).register(meterRegistry).increment();
+            done.add(pending.id());
+        }
+        inFlight.addAndGet(-batch.size());
+        completed.addAndGet(batch.size());
+        // commit 이후이므로 재시도하지 않음, 재시작 시 다시 들어가도 중복(CONFLICT) 으로 끝남
+        try {
+            journal.done(done);
+        } catch (IOException e) {
+            log.warn("Cannot write ingest journal : {}", e.toString());
+        }
+    }
+
+    private void compact() {
+        try {
+            journal.compact(() -> inFlight.get() == 0);
+        } catch (IOException e) {
+            log.warn("Cannot compact ingest journal : {}", e.toString());
+        }
+    }
+
+    private MemberDTO.IngestStatusDTO queued(UUID trackingId) {
+        MemberDTO.IngestStatusDTO status = new MemberDTO.IngestStatusDTO(trackingId, MemberDTO.IngestStatus.QUEUED, null, null);
+        statuses.put(trackingId, status);
+        return status;
+    }
+}
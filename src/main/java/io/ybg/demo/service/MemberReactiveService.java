@@ -0,0 +1,40 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.repository.MemberReactiveRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@ConditionalOnProperty(prefix = "member.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MemberReactiveService {
+
+    private final MemberReactiveRepo memberReactiveRepo;
+    private final MemberProperties memberProperties;
+
+    public Flux<MemberDTO.InfoMemberDTO> getAllMembers() {
+        return memberReactiveRepo.findAll();
+    }
+
+    public Flux<MemberDTO.InfoMemberDTO> getMembersAfter(long cursor, Integer size) {
+        MemberProperties.Page page = memberProperties.getPage();
+        int pageSize = size == null ? page.getDefaultSize() : Math.min(Math.max(size, 1), page.getMaxSize());
+
+        return memberReactiveRepo.findAfter(cursor, pageSize);
+    }
+
+    public Mono<MemberDTO.InfoMemberDTO> getMemberById(long id) {
+        return memberReactiveRepo.findById(id);
+    }
+
+    public Mono<MemberDTO.InfoMemberDTO> getMemberByUuid(UUID uuid) {
+        return memberReactiveRepo.findByUuid(uuid);
+    }
+}
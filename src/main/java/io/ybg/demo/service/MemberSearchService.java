@@ -0,0 +1,141 @@
+package io.ybg.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ybg.demo.component.MemberSearchIndex;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 이름/이메일 부분 일치, 전화번호 일부 검색.
+ * 점수 순 id 만 먼저 구한 뒤(DB 또는 in-memory index) 해당 페이지만 projection 으로 읽는다.
+ */
+@Service
+@Slf4j
+@Timed(value = "member.service", histogram = true)
+public class MemberSearchService {
+    // 숫자, '-', 공백만 있으면 전화번호 검색
+    private static final Pattern PHONE = Pattern.compile("[0-9][0-9\\- ]*");
+
+    private final MemberRepo memberRepo;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberProperties memberProperties;
+    private final MeterRegistry meterRegistry;
+    // readOnly -> replica 설정 시 replica 로 라우팅, 제한 시간 초과는 트랜잭션 밖에서 처리
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MemberSearchService(MemberRepo memberRepo, MemberSearchIndex memberSearchIndex, MemberProperties memberProperties,
+                               MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.memberRepo = memberRepo;
+        this.memberSearchIndex = memberSearchIndex;
+        this.memberProperties = memberProperties;
+        this.meterRegistry = meterRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    private record Ranked(List<Long> ids, boolean partial) {
+    }
+
+    /**
+     * @param query 이름/이메일 일부, 또는 전화번호 일부('-' 무시)
+     * @throws InvalidMemberRequestException 검색어 길이, 페이지 범위 초과
+     */
+    public MemberDTO.SearchMemberDTO searchMembers(String query, int page, Integer size) {
+        MemberProperties.Search search = memberProperties.getSearch();
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.length() < search.getMinLength() || trimmed.length() > search.getMaxLength()) {
+            throw new InvalidMemberRequestException("Query length must be between " + search.getMinLength() + " and " + search.getMaxLength());
+        }
+        int pageSize = size == null ? search.getDefaultSize() : Math.min(Math.max(size, 1), search.getMaxSize());
+        if (page < 0 || (long) (page + 1) * pageSize > search.getMaxResults()) {
+            throw new InvalidMemberRequestException("Page " + page + " exceeds max results " + search.getMaxResults());
+        }
+
+        boolean phone = PHONE.matcher(trimmed).matches();
+        String term = phone ? trimmed.replaceAll("[^0-9]", "") : trimmed.toLowerCase(Locale.ROOT);
+        int offset = page * pageSize;
+        // size + 1 건으로 다음 페이지 판단
+        int limit = pageSize + 1;
+
+        long start = System.nanoTime();
+        boolean memory = memberSearchIndex.engine() == MemberProperties.Search.Engine.MEMORY && memberSearchIndex.isReady();
+        Ranked ranked = memory
+                ? searchMemory(term, phone, offset, limit, start + search.getTimeout().toNanos())
+                : searchDatabase(term, phone, offset, limit, search);
+
+        List<Long> ids = ranked.ids();
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+        List<MemberDTO.InfoMemberDTO> members = members(ids);
+
+        Timer.builder("member.search")
+                .tag("engine", memory ? "memory" : "database")
+                .tag("outcome", ranked.partial() ? "partial" : "complete")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (ranked.partial()) {
+            log.debug("Member search exceeded {} ({} results)", search.getTimeout(), members.size());
+        }
+
+        return new MemberDTO.SearchMemberDTO(members, page, pageSize, hasNext, ranked.partial());
+    }
+
+    private Ranked searchMemory(String term, boolean phone, int offset, int limit, long deadline) {
+        MemberSearchIndex.Result result = memberSearchIndex.search(term, phone, offset + limit, deadline);
+        List<Long> ids = result.ids();
+        return new Ranked(ids.subList(Math.min(offset, ids.size()), ids.size()), result.partial());
+    }
+
+    // PostgreSQL 은 statement_timeout 으로 제한, 초과 시 빈 partial 결과
+    private Ranked searchDatabase(String term, boolean phone, int offset, int limit, MemberProperties.Search search) {
+        String escaped = escapeLike(term);
+        try {
+            List<Long> ids = readOnlyTransaction.execute(status -> {
+                if (memberSearchIndex.isPostgres()) {
+                    memberRepo.setLocalStatementTimeout(String.valueOf(search.getTimeout().toMillis()));
+                }
+                return phone
+                        ? memberRepo.searchIdsByPhone(term, escaped + "%", "%" + escaped + "%", limit, offset)
+                        : memberRepo.searchIdsByText(term, escaped + "%", "%" + escaped + "%", limit, offset);
+            });
+            return new Ranked(Objects.requireNonNullElse(ids, List.of()), false);
+        } catch (QueryTimeoutException e) {
+            return new Ranked(List.of(), true);
+        }
+    }
+
+    // 점수 순서 유지
+    private List<MemberDTO.InfoMemberDTO> members(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MemberDTO.InfoMemberDTO> found = memberRepo.findInfoByIdIn(ids).stream()
+                .collect(Collectors.toMap(MemberDTO.InfoMemberDTO::getId, Function.identity()));
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    // like 의 기본 escape 문자 '\'
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,72 +1,238 @@
 package io.ybg.demo.service;
 
+import io.ybg.demo.component.EmailFilter;
+import io.ybg.demo.config.CacheConfig;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
-import io.ybg.demo.mapper.MemberMapper;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.exception.DuplicateEmailException;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.exception.MemberException;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.exception.MemberVersionMismatchException;
 import io.ybg.demo.repository.MemberRepo;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "member.service", histogram = true)  // class, method tag
+@Transactional(readOnly = true)  // 기본 읽기 전용 (replica 설정 시 replica 로 라우팅), 쓰기와 cache 를 채우는 조회는 메서드에 명시
 public class MemberService {
 
     private final MemberRepo memberRepo;
+    private final MemberProperties memberProperties;
+    private final EmailFilter emailFilter;
+    private final TransactionTemplate transactionTemplate;
+    // 검색 index 등은 commit 이후 반영 (MemberChangedEvent)
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<MemberEntity> getAllMembers() {
-        return memberRepo.findAll();
+    // 조회는 DTO projection
+    public List<MemberDTO.InfoMemberDTO> getAllMembers() {
+        return memberRepo.findAllInfo();
     }
 
-    public MemberEntity getMemberById(Long id) {
-        return memberRepo.findById(id).orElseThrow(() -> new RuntimeException("Find Member with id: " + id + " doesn't exist"));
+    public Slice<MemberDTO.InfoMemberDTO> getMembersAfter(long cursor, Integer size) {
+        MemberProperties.Page page = memberProperties.getPage();
+        int pageSize = size == null ? page.getDefaultSize() : Math.min(Math.max(size, 1), page.getMaxSize());
+
+        return memberRepo.findInfoByIdGreaterThan(cursor, PageRequest.of(0, pageSize, Sort.by("id")));
     }
 
-    public MemberEntity saveMember(MemberEntity memberEntity) {
+    // DTO 는 영속성 컨텍스트에 쌓이지 않으므로 detach 불필요
+    public void streamAllMembers(Consumer<MemberDTO.InfoMemberDTO> consumer) {
+        try (Stream<MemberDTO.InfoMemberDTO> members = memberRepo.streamAllInfo()) {
+            members.forEach(consumer);
+        }
+    }
 
-        if (memberRepo.existsByEmail(memberEntity.getEmail())) {
-            throw new RuntimeException("Email already exists");
+    // cache 에는 불변 DTO 를 저장 (공유해도 안전), cache 가 트랜잭션 바깥이므로 hit 시 connection 없음
+    // cache 를 채우는 조회는 read-write 트랜잭션으로 primary 에서 읽음
+    // (replica 면 무효화 직후 지연된 행이 TTL 동안 cache 에 남아 방금 쓴 값/ETag 가 안 보임)
+    @Cacheable(cacheNames = CacheConfig.MEMBER, key = "#id")
+    @Transactional
+    public MemberDTO.InfoMemberDTO getMemberById(Long id) {
+        return memberRepo.findInfoById(id).orElseThrow(() -> new MemberNotFoundException("Find", "id", id));
+    }
+
+    // 목록 ETag/Last-Modified 용, 쓰기 시 무효화
+    @Cacheable(cacheNames = CacheConfig.MEMBER_LIST_VERSION, key = "'all'")
+    @Transactional  // primary, getMemberById 참고
+    public MemberDTO.ListVersionDTO getMembersVersion() {
+        return memberRepo.findListVersion();
+    }
+
+    // uuid 는 바뀌지 않으므로 uuid -> id 만 cache 하고 member 는 id cache 를 공유
+    // 삭제된 member 의 uuid 는 id 조회 단계에서 404 가 되므로 따로 무효화하지 않음
+    @Cacheable(cacheNames = CacheConfig.MEMBER_UUID, key = "#uuid")
+    @Transactional  // primary, getMemberById 참고
+    public Long getMemberIdByUuid(UUID uuid) {
+        return memberRepo.findIdByUuid(uuid).orElseThrow(() -> new MemberNotFoundException("Find", "uuid", uuid));
+    }
+
+    public List<MemberDTO.InfoMemberDTO> getMembersByUuids(Collection<UUID> uuids) {
+        if (uuids.size() > memberProperties.getBatch().getMaxItems()) {
+            throw new InvalidMemberRequestException("Uuid count " + uuids.size() + " exceeds " + memberProperties.getBatch().getMaxItems());
+        }
+        if (uuids.isEmpty()) {
+            return List.of();
         }
+        return memberRepo.findInfoByUuidIn(uuids);
+    }
+
+    /**
+     * bloom filter 가 "없음" 으로 답해도 다른 instance 의 가입이 아직 반영되지 않았을 수 있으므로
+     * unique 제약 위반은 rollback 이후 primary 에서 다시 확인해 409 로 바꾼다 (updateMember 와 같은 방식)
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, key = "#memberEntity.email"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberEntity saveMember(MemberEntity memberEntity) {
+        MemberEntity saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                if (existsByEmail(memberEntity.getEmail())) {
+                    throw new DuplicateEmailException();
+                }
 
-        memberEntity = memberRepo.save(memberEntity);
-        log.info("Member saved successfully : {}", memberEntity);
-        return memberEntity;
+                MemberEntity entity = memberRepo.save(memberEntity);
+                emailFilter.put(entity.getEmail());
+                eventPublisher.publishEvent(MemberChangedEvent.of(MemberChangedEvent.Type.CREATED, entity.getId()));
+                return entity;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailTaken(memberEntity.getEmail())) {
+                throw new DuplicateEmailException();
+            }
+            throw e;
+        }
+        log.debug("Member saved successfully : {}", saved);
+        return saved;
     }
 
+    // 이전 email 은 알 수 없으므로 email cache 는 전체 무효화
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberEntity updateMember(Long id, MemberEntity memberEntity) {
-        Optional<MemberEntity> existingMember = memberRepo.findById(id);
+        return updateMember(id, memberEntity, null);
+    }
 
-        // 존재 여부 검증
-        if (existingMember.isEmpty()) {
-            throw new RuntimeException("Update Member with id: " + id + " doesn't exist");
-        }
-        // 이메일 중복 검증
-        if (!memberEntity.getEmail().equals(existingMember.get().getEmail())) {
-            if (memberRepo.existsByEmail(memberEntity.getEmail())) {
-                throw new RuntimeException("Update Email already exists");
+    /**
+     * update 1회 + 결과 조회 1회. 사전 조회/이메일 중복 검사 없이 영향 행 수와 unique 제약으로 판단
+     * 제약 위반 후의 원인 조회는 롤백 이후에 해야 하므로 트랜잭션은 TransactionTemplate 으로 직접 연다
+     *
+     * @param expectedVersion If-Match 로 받은 버전, null 이면 검사하지 않음
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberEntity updateMember(Long id, MemberEntity memberEntity, Long expectedVersion) {
+        MemberEntity updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                if (memberRepo.updateById(id, memberEntity.getEmail(), memberEntity.getName(), memberEntity.getPhone(), expectedVersion, LocalDateTime.now()) == 0) {
+                    throw notAffected("Update", id, expectedVersion);
+                }
+                eventPublisher.publishEvent(MemberChangedEvent.of(MemberChangedEvent.Type.UPDATED, id));
+                return memberRepo.findById(id).orElseThrow(() -> notAffected("Update", id, null));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 실패한 경우에만 원인 확인
+            if (isEmailTaken(memberEntity.getEmail())) {
+                throw new DuplicateEmailException("Update");
             }
+            throw e;
         }
-        // 병합
-        memberEntity = MemberMapper.INSTANCE.Update(existingMember.get(), memberEntity);
-        memberRepo.save(memberEntity);
 
-        log.info("Member with id: {} updated successfully", memberEntity.getId());
-        return memberEntity;
+        emailFilter.put(updated.getEmail());
+        log.debug("Member with id: {} updated successfully", updated.getId());
+        return updated;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    @Transactional
     public void deleteMemberById(Long id) {
-        memberRepo.findById(id).ifPresentOrElse(
-                m -> memberRepo.deleteById(id),
-                () -> {
-                    throw new RuntimeException("Delete Member with id: " + id + " doesn't exist");
-                }
-        );
+        deleteMemberById(id, null);
     }
 
+    // delete 1회
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_LIST_VERSION, allEntries = true)
+    })
+    @Transactional
+    public void deleteMemberById(Long id, Long expectedVersion) {
+        if (memberRepo.deleteByIdAndVersion(id, expectedVersion) == 0) {
+            throw notAffected("Delete", id, expectedVersion);
+        }
+        eventPublisher.publishEvent(MemberChangedEvent.of(MemberChangedEvent.Type.DELETED, id));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.MEMBER_EMAIL, key = "#email")
+    @Transactional  // primary, getMemberById 참고
     public boolean isExistingEmail(String email) {
-        return memberRepo.existsByEmail(email);
+        return existsByEmail(email);
+    }
+
+    // 영향 행 수 0 : 버전 조건이 있고 행이 남아 있으면 버전 불일치, 아니면 미존재
+    private MemberException notAffected(String action, Long id, Long expectedVersion) {
+        if (expectedVersion != null && memberRepo.existsById(id)) {
+            return new MemberVersionMismatchException(action, id, expectedVersion);
+        }
+        return new MemberNotFoundException(action, "id", id);
+    }
+
+    // 제약 위반 원인 확인 : filter 를 거치지 않고, replica 지연에 가려지지 않도록 read-write 트랜잭션(primary)
+    private boolean isEmailTaken(String email) {
+        return email != null && Boolean.TRUE.equals(transactionTemplate.execute(status -> memberRepo.existsByEmail(email)));
+    }
+
+    // bloom filter 에서 없다고 판단되면 DB 조회 생략
+    private boolean existsByEmail(String email) {
+        if (!emailFilter.mightContain(email)) {
+            return false;
+        }
+
+        boolean exists = memberRepo.existsByEmail(email);
+        if (!exists) {
+            emailFilter.recordFalsePositive();
+        }
+        return exists;
     }
 }
\ No newline at end of file
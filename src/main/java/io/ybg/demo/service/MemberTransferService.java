@@ -0,0 +1,299 @@
+package io.ybg.demo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ybg.demo.component.MemberImportReader;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.dto.MemberDTO.BatchStatus;
+import io.ybg.demo.entity.generator.UuidV7;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 import / export.
+ * import : 파일을 한 행씩 읽어 chunk-size 건씩 MemberBatchService 로 저장 (chunk 당 1 트랜잭션, 검증은 CreateMemberDTO 제약).
+ * 이미 commit 된 chunk 는 중간에 실패해도 남으므로, 같은 파일을 다시 올리면 가입된 행은 CONFLICT 로 끝난다.
+ * export : DB cursor(fetch size 500) 에서 읽는 대로 출력에 쓴다.
+ */
+@Service
+@Slf4j
+public class MemberTransferService {
+    private static final String CSV_HEADER = "id,uuid,email,name,phone,reg_dt,mod_dt";
+
+    private final MemberBatchService memberBatchService;
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+    private final MemberProperties.Transfer properties;
+    private final int chunkSize;
+    private final Cache<UUID, Progress> imports;
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Map<BatchStatus, Counter> importRows = new EnumMap<>(BatchStatus.class);
+    private final Counter exportRows;
+    private final MeterRegistry meterRegistry;
+
+    public MemberTransferService(MemberBatchService memberBatchService, MemberService memberService, MemberProperties memberProperties,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.memberBatchService = memberBatchService;
+        this.memberService = memberService;
+        this.objectMapper = objectMapper;
+        this.properties = memberProperties.getTransfer();
+        this.chunkSize = Math.min(memberProperties.getBatch().getChunkSize(), memberProperties.getBatch().getMaxItems());
+        this.imports = Caffeine.newBuilder()
+                .maximumSize(properties.getStatusMaxSize())
+                .expireAfterWrite(properties.getStatusTtl())
+                .build();
+
+        this.meterRegistry = meterRegistry;
+        for (BatchStatus status : List.of(BatchStatus.CREATED, BatchStatus.CONFLICT, BatchStatus.INVALID, BatchStatus.FAILED)) {
+            importRows.put(status, Counter.builder("member.import.rows").tag("result", status.name()).register(meterRegistry));
+        }
+        this.exportRows = Counter.builder("member.export.rows").register(meterRegistry);
+        Gauge.builder("member.import.active", active, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 끝까지 읽고 저장한 뒤 반환, 진행 중에는 getImport / getImports 로 조회
+     *
+     * @throws InvalidMemberRequestException CSV header 가 없거나 email column 이 없음
+     * @throws IOException              업로드 중단 등, 이미 commit 된 chunk 는 유지 (ABORTED)
+     */
+    public MemberDTO.ImportStatusDTO importMembers(MemberDTO.TransferFormat format, InputStream in) throws IOException {
+        Reader text = new InputStreamReader(in, StandardCharsets.UTF_8);
+        MemberImportReader reader = format == MemberDTO.TransferFormat.CSV
+                ? MemberImportReader.csv(text, properties.getMaxLineLength())
+                : MemberImportReader.ndjson(text, properties.getMaxLineLength(), objectMapper);
+
+        Progress progress = new Progress(UuidV7.randomUUID(), format, properties.getMaxErrors());
+        imports.put(progress.id, progress);
+        active.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        MemberDTO.ImportState state = MemberDTO.ImportState.ABORTED;
+        try (reader) {
+            List<MemberDTO.CreateMemberDTO> members = new ArrayList<>(chunkSize);
+            long[] lines = new long[chunkSize];
+            MemberImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (row.error() != null) {
+                    progress.rejected(row.line(), row.error());
+                    importRows.get(BatchStatus.INVALID).increment();
+                    continue;
+                }
+                lines[members.size()] = row.line();
+                members.add(row.member());
+                if (members.size() == chunkSize) {
+                    save(progress, members, lines);
+                }
+            }
+            save(progress, members, lines);
+            state = MemberDTO.ImportState.COMPLETED;
+        } catch (IOException | RuntimeException e) {
+            // 응답에 내부 메시지(SQL 등)를 싣지 않음
+            progress.abort(e.getClass().getSimpleName());
+            log.warn("Member import {} aborted after {} rows : {}", progress.id, progress.rows, e.toString());
+            throw e;
+        } finally {
+            progress.finish(state);
+            // 완료 시각부터 status-ttl 보관
+            imports.put(progress.id, progress);
+            active.decrementAndGet();
+            sample.stop(Timer.builder("member.import").tag("state", state.name()).register(meterRegistry));
+        }
+
+        MemberDTO.ImportStatusDTO result = progress.snapshot();
+        log.info("Member import {} : {} rows, {} created in {} ms ({} rows/s)",
+                result.getImportId(), result.getRows(), result.getCreated(), result.getElapsedMillis(), (long) result.getRowsPerSecond());
+        return result;
+    }
+
+    // 만료(status-ttl) 또는 알 수 없는 id 는 null
+    public MemberDTO.ImportStatusDTO getImport(UUID importId) {
+        Progress progress = imports.getIfPresent(importId);
+        return progress == null ? null : progress.snapshot();
+    }
+
+    // 최근 시작 순
+    public List<MemberDTO.ImportStatusDTO> getImports() {
+        return imports.asMap().values().stream()
+                .map(Progress::snapshot)
+                .sorted(Comparator.comparing(MemberDTO.ImportStatusDTO::getStartedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 전체 멤버를 PK 순으로 출력. CSV 는 import 가능한 header 포함 (id, uuid, reg_dt, mod_dt 는 import 시 무시)
+     *
+     * @return 출력 건수
+     */
+    public long exportMembers(MemberDTO.TransferFormat format, OutputStream out) throws IOException {
+        long[] count = {0};
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (format == MemberDTO.TransferFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                memberService.streamAllMembers(m -> {
+                    try {
+                        writeCsv(writer, m);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+                writer.flush();
+            } else {
+                try (SequenceWriter writer = objectMapper.writerFor(MemberDTO.InfoMemberDTO.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                        .withRootValueSeparator("\n")
+                        .writeValues(out)) {
+                    memberService.streamAllMembers(m -> {
+                        try {
+                            writer.write(m);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        count[0]++;
+                    });
+                }
+            }
+        } catch (UncheckedIOException e) {
+            // client 연결 종료 등
+            throw e.getCause();
+        } finally {
+            exportRows.increment(count[0]);
+            sample.stop(Timer.builder("member.export").tag("format", format.name()).register(meterRegistry));
+        }
+        return count[0];
+    }
+
+    private void save(Progress progress, List<MemberDTO.CreateMemberDTO> members, long[] lines) {
+        if (members.isEmpty()) {
+            return;
+        }
+        List<MemberDTO.BatchResultDTO> results = memberBatchService.saveMembers(members);
+        Map<BatchStatus, Integer> counts = new EnumMap<>(BatchStatus.class);
+        for (MemberDTO.BatchResultDTO result : results) {
+            counts.merge(result.getStatus(), 1, Integer::sum);
+        }
+        progress.saved(results, lines, counts);
+        counts.forEach((status, n) -> importRows.get(status).increment(n));
+        members.clear();
+    }
+
+    private static void writeCsv(Writer writer, MemberDTO.InfoMemberDTO m) throws IOException {
+        writer.write(Long.toString(m.getId()));
+        writer.write(',');
+        writer.write(m.getUuid() == null ? "" : m.getUuid().toString());
+        writer.write(',');
+        writer.write(csv(m.getEmail()));
+        writer.write(',');
+        writer.write(csv(m.getName()));
+        writer.write(',');
+        writer.write(csv(m.getPhone()));
+        writer.write(',');
+        writer.write(m.getReg_dt() == null ? "" : m.getReg_dt().toString());
+        writer.write(',');
+        writer.write(m.getMod_dt() == null ? "" : m.getMod_dt().toString());
+        writer.write('\n');
+    }
+
+    // ',', '"', 줄바꿈이 있으면 따옴표로 감쌈
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    // import 1건 진행 상황, 갱신은 import thread 1개 (chunk 단위), 조회는 다른 thread
+    private static final class Progress {
+        private final UUID id;
+        private final MemberDTO.TransferFormat format;
+        private final int maxErrors;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long started = System.nanoTime();
+        private final List<MemberDTO.ImportErrorDTO> errors = new ArrayList<>();
+
+        private MemberDTO.ImportState state = MemberDTO.ImportState.RUNNING;
+        private long rows;
+        private long created;
+        private long conflict;
+        private long invalid;
+        private long failed;
+        private boolean errorsTruncated;
+        private long elapsedNanos = -1;
+        private String message;
+
+        Progress(UUID id, MemberDTO.TransferFormat format, int maxErrors) {
+            this.id = id;
+            this.format = format;
+            this.maxErrors = maxErrors;
+        }
+
+        synchronized void rejected(long line, String error) {
+            rows++;
+            invalid++;
+            error(line, BatchStatus.INVALID, error);
+        }
+
+        synchronized void saved(List<MemberDTO.BatchResultDTO> results, long[] lines, Map<BatchStatus, Integer> counts) {
+            rows += results.size();
+            created += counts.getOrDefault(BatchStatus.CREATED, 0);
+            conflict += counts.getOrDefault(BatchStatus.CONFLICT, 0);
+            invalid += counts.getOrDefault(BatchStatus.INVALID, 0);
+            failed += counts.getOrDefault(BatchStatus.FAILED, 0);
+            for (MemberDTO.BatchResultDTO result : results) {
+                if (result.getStatus() != BatchStatus.CREATED) {
+                    error(lines[result.getIndex()], result.getStatus(), result.getMessage());
+                }
+            }
+        }
+
+        synchronized void abort(String message) {
+            this.message = message;
+        }
+
+        synchronized void finish(MemberDTO.ImportState state) {
+            this.state = state;
+            this.elapsedNanos = System.nanoTime() - started;
+        }
+
+        synchronized MemberDTO.ImportStatusDTO snapshot() {
+            long elapsed = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - started;
+            double seconds = elapsed / 1e9;
+            return new MemberDTO.ImportStatusDTO(id, format, state, rows, created, conflict, invalid, failed, List.copyOf(errors), errorsTruncated,
+                    startedAt, Duration.ofNanos(elapsed).toMillis(), seconds > 0 ? rows / seconds : 0, message);
+        }
+
+        private void error(long line, BatchStatus status, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new MemberDTO.ImportErrorDTO(line, status, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- /member/v1/search : LIKE '%term%' 를 trigram GIN index 로 처리 (MemberRepo.searchIdsBy*)
+-- 대용량 운영 테이블은 create index concurrently 로 별도 적용
+create extension if not exists pg_trgm;
+create index if not exists member_name_trgm on member_entity using gin (lower(name) gin_trgm_ops);
+create index if not exists member_email_trgm on member_entity using gin (lower(email) gin_trgm_ops);
+create index if not exists member_phone_trgm on member_entity using gin (replace(phone, '-', '') gin_trgm_ops);
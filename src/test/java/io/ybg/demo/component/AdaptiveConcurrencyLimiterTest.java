@@ -0,0 +1,72 @@
+package io.ybg.demo.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = Duration.ofMillis(1).toNanos();
+
+    @DisplayName("한도만큼 동시 처리, 초과는 거절")
+    @Test
+    void tryAcquireTest() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofMillis(100), 0.5, new AtomicLong()::get);
+
+        // when
+        long first = limiter.tryAcquire();
+        long second = limiter.tryAcquire();
+        long third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isNotNegative();
+        assertThat(second).isNotNegative();
+        assertThat(third).isEqualTo(-1);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.releaseWithoutSample();
+        assertThat(limiter.tryAcquire()).isNotNegative();
+    }
+
+    @DisplayName("빠른 응답 + 한도 절반 이상 사용 : 증가, 느린 응답 : 감소 (감소 후 시작한 요청만 다시 감소)")
+    @Test
+    void adjustTest() {
+        // given
+        AtomicLong now = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, Duration.ofMillis(100), 0.5, now::get);
+
+        // when : 동시 2건, 10ms
+        long a = limiter.tryAcquire();
+        long b = limiter.tryAcquire();
+        now.addAndGet(10 * MILLI);
+        limiter.release(a);
+        limiter.release(b);
+
+        // then : 2 >= 4/2 -> +1, 1 < 5/2 -> 유지
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        // when : 같은 때 시작한 3건이 모두 느림
+        long[] slow = IntStream.range(0, 3).mapToLong(i -> limiter.tryAcquire()).toArray();
+        now.addAndGet(500 * MILLI);
+        for (long started : slow) {
+            limiter.release(started);
+        }
+
+        // then : 한 번만 감소
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        // when : 감소 이후 시작한 요청이 느림
+        long late = limiter.tryAcquire();
+        now.addAndGet(500 * MILLI);
+        limiter.release(late);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,46 @@
+package io.ybg.demo.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBloomFilterTest {
+
+    @DisplayName("추가한 email 은 항상 포함")
+    @Test
+    void noFalseNegativeTest() {
+        // given
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+
+        // when
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@mail.com"));
+
+        // then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i + "@mail.com"))).isTrue();
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @DisplayName("false positive 비율은 설정값 근처")
+    @Test
+    void falsePositiveRateTest() {
+        // given
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@mail.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("other" + i + "@mail.com")).count();
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+        assertThat(filter.expectedFpp()).isLessThan(0.02);
+    }
+
+    @DisplayName("email 정규화")
+    @Test
+    void normalizeTest() {
+        assertThat(EmailFilter.normalize("  Admin@Mail.COM ")).isEqualTo("admin@mail.com");
+    }
+}
@@ -0,0 +1,72 @@
+package io.ybg.demo.component;
+
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * relay, refresh 주기 실행은 꺼져 있음, 직접 호출
+ */
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class EmailFilterTest {
+
+    private final EmailFilter emailFilter;
+    private final MemberOutbox memberOutbox;
+    private final MemberRepo memberRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("다른 instance 의 가입 : outbox 발행 후 refresh 로 반영")
+    @Test
+    void refreshTest() {
+        // given : EmailFilter.put 없이 저장 (다른 instance)
+        MemberEntity saved = transactionTemplate.execute(status -> {
+            MemberEntity member = memberRepo.save(MemberEntity.builder().email("other-instance@mail.com").name("유저").phone("010-1234-5678").build());
+            eventPublisher.publishEvent(MemberChangedEvent.of(MemberChangedEvent.Type.CREATED, member.getId()));
+            return member;
+        });
+        boolean before = emailFilter.mightContain(saved.getEmail());
+
+        // when
+        while (memberOutbox.relay() > 0) {
+            emailFilter.refresh();
+        }
+        emailFilter.refresh();
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(emailFilter.mightContain(saved.getEmail())).isTrue();
+
+        memberRepo.deleteById(saved.getId());
+    }
+
+    @DisplayName("트랜잭션 안의 put : commit 이후 반영, rollback 시 반영 안 됨")
+    @Test
+    void putAfterCommitTest() {
+        // when
+        boolean during = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            emailFilter.put("committed@mail.com");
+            return emailFilter.mightContain("committed@mail.com");
+        }));
+        transactionTemplate.executeWithoutResult(status -> {
+            emailFilter.put("rolled-back@mail.com");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(during).isFalse();
+        assertThat(emailFilter.mightContain("committed@mail.com")).isTrue();
+        assertThat(emailFilter.mightContain("rolled-back@mail.com")).isFalse();
+    }
+}
@@ -0,0 +1,31 @@
+package io.ybg.demo.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+    @DisplayName("interval 당 limit 건만 통과, 다음 window 에서 생략 건수 반환")
+    @Test
+    void acquireTest() {
+        // given
+        AtomicLong now = new AtomicLong();
+        LogSampler sampler = new LogSampler(Duration.ofSeconds(1), 2, now::get);
+
+        // when, then
+        assertThat(sampler.acquire()).isZero();
+        assertThat(sampler.acquire()).isZero();
+        assertThat(sampler.acquire()).isEqualTo(-1);
+        assertThat(sampler.acquire()).isEqualTo(-1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(sampler.acquire()).isEqualTo(2);
+        assertThat(sampler.acquire()).isZero();
+        assertThat(sampler.acquire()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,102 @@
+package io.ybg.demo.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemberImportReaderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private List<MemberImportReader.Row> readAll(MemberImportReader reader) throws Exception {
+        List<MemberImportReader.Row> rows = new ArrayList<>();
+        try (reader) {
+            MemberImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @DisplayName("CSV : header 순서, 따옴표, BOM, CRLF, 빈 행")
+    @Test
+    void csvTest() throws Exception {
+        // given
+        String csv = "\uFEFFphone,Email,id,name\r\n"
+                + "010-1234-5678,a@mail.com,1,\"홍,길동\"\r\n"
+                + "\r\n"
+                + ",b@mail.com,2,\"\"\"따옴표\"\"\"\n"
+                + "010-1234-5678,c@mail.com,3,\"줄\n바꿈\"\n";
+
+        // when
+        List<MemberImportReader.Row> rows = readAll(MemberImportReader.csv(new StringReader(csv), 100));
+
+        // then
+        assertThat(rows).hasSize(3).allSatisfy(row -> assertThat(row.error()).isNull());
+        assertThat(rows).extracting(MemberImportReader.Row::line).containsExactly(2L, 4L, 5L);
+        assertThat(rows.get(0).member().getEmail()).isEqualTo("a@mail.com");
+        assertThat(rows.get(0).member().getName()).isEqualTo("홍,길동");
+        assertThat(rows.get(1).member().getPhone()).isNull();
+        assertThat(rows.get(1).member().getName()).isEqualTo("\"따옴표\"");
+        assertThat(rows.get(2).member().getName()).isEqualTo("줄\n바꿈");
+    }
+
+    @DisplayName("CSV : 잘못된 행은 error 와 함께 반환하고 계속 읽음")
+    @Test
+    void csvErrorTest() throws Exception {
+        // given
+        String csv = "email,name\n"
+                + "a@mail.com\n"
+                + "b@mail.com," + "x".repeat(50) + "\n"
+                + "c@mail.com,홍길동\n"
+                + "d@mail.com,\"닫히지 않은 따옴표\n";
+
+        // when
+        List<MemberImportReader.Row> rows = readAll(MemberImportReader.csv(new StringReader(csv), 20));
+
+        // then
+        assertThat(rows).extracting(MemberImportReader.Row::line).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(rows.get(0).error()).isEqualTo("Expected 2 columns but was 1");
+        assertThat(rows.get(1).error()).isEqualTo("Row exceeds 20 characters");
+        assertThat(rows.get(2).member().getEmail()).isEqualTo("c@mail.com");
+        assertThat(rows.get(3).error()).isEqualTo("Unterminated quote");
+    }
+
+    @DisplayName("CSV : email column 없음")
+    @Test
+    void csvHeaderTest() {
+        assertThrows(InvalidMemberRequestException.class, () -> MemberImportReader.csv(new StringReader("name,phone\n홍길동,010-1234-5678\n"), 100));
+        assertThrows(InvalidMemberRequestException.class, () -> MemberImportReader.csv(new StringReader(""), 100));
+    }
+
+    @DisplayName("NDJSON : 모르는 field 무시, 잘못된 줄은 error")
+    @Test
+    void ndjsonTest() throws Exception {
+        // given
+        String ndjson = "{\"id\":1,\"email\":\"a@mail.com\",\"name\":\"홍길동\",\"phone\":\"010-1234-5678\"}\n"
+                + "\n"
+                + "{\"email\":\n"
+                + "null\n"
+                + "{\"email\":\"b@mail.com\"}";
+
+        // when
+        List<MemberImportReader.Row> rows = readAll(MemberImportReader.ndjson(new StringReader(ndjson), 100, mapper));
+
+        // then
+        assertThat(rows).extracting(MemberImportReader.Row::line).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(rows.get(0).member().getName()).isEqualTo("홍길동");
+        assertThat(rows.get(1).error()).isEqualTo("Malformed JSON");
+        assertThat(rows.get(2).error()).isEqualTo("Malformed JSON");
+        assertThat(rows.get(3).member().getEmail()).isEqualTo("b@mail.com");
+        assertThat(rows.get(3).member().getPhone()).isNull();
+    }
+}
@@ -0,0 +1,97 @@
+package io.ybg.demo.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ybg.demo.dto.MemberDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberIngestJournalTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    private MemberDTO.CreateMemberDTO member(String email) {
+        return MemberDTO.CreateMemberDTO.builder().email(email).name("홍길동").phone("010-1234-5678").build();
+    }
+
+    @DisplayName("재시작 : 완료 기록이 없는 접수만 접수 순서로")
+    @Test
+    void replayTest() throws Exception {
+        // given
+        Path path = dir.resolve("ingest.journal");
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        try (MemberIngestJournal journal = new MemberIngestJournal(path, mapper)) {
+            journal.sync(journal.accepted(first, member("a@mail.com")));
+            journal.sync(journal.accepted(second, member("b@mail.com")));
+            journal.sync(journal.accepted(third, member("c@mail.com")));
+            journal.done(List.of(second));
+        }
+
+        // when
+        List<MemberIngestJournal.Pending> pending;
+        try (MemberIngestJournal journal = new MemberIngestJournal(path, mapper)) {
+            pending = journal.replay();
+        }
+
+        // then
+        assertThat(pending).extracting(MemberIngestJournal.Pending::id).containsExactly(first, third);
+        assertThat(pending.getFirst().member().getEmail()).isEqualTo("a@mail.com");
+        assertThat(pending.getFirst().member().getPhone()).isEqualTo("010-1234-5678");
+    }
+
+    @DisplayName("기록 중 종료로 잘린 줄은 건너뛰고 이어서 기록")
+    @Test
+    void tornLineTest() throws Exception {
+        // given
+        Path path = dir.resolve("ingest.journal");
+        UUID first = UUID.randomUUID();
+        try (MemberIngestJournal journal = new MemberIngestJournal(path, mapper)) {
+            journal.sync(journal.accepted(first, member("a@mail.com")));
+        }
+        Files.writeString(path, "{\"t\":\"A\",\"id\":\"01", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // when
+        UUID second = UUID.randomUUID();
+        List<MemberIngestJournal.Pending> pending;
+        try (MemberIngestJournal journal = new MemberIngestJournal(path, mapper)) {
+            journal.sync(journal.accepted(second, member("b@mail.com")));
+            pending = journal.replay();
+        }
+
+        // then
+        assertThat(pending).extracting(MemberIngestJournal.Pending::id).containsExactly(first, second);
+    }
+
+    @DisplayName("처리 중인 접수가 없을 때만 비움")
+    @Test
+    void compactTest() throws Exception {
+        try (MemberIngestJournal journal = new MemberIngestJournal(dir.resolve("ingest.journal"), mapper)) {
+            // given
+            UUID id = UUID.randomUUID();
+            journal.sync(journal.accepted(id, member("a@mail.com")));
+
+            // when, then
+            assertThat(journal.compact(() -> false)).isFalse();
+            assertThat(journal.size()).isPositive();
+
+            journal.done(List.of(id));
+            assertThat(journal.compact(() -> true)).isTrue();
+            assertThat(journal.size()).isZero();
+            assertThat(journal.replay()).isEmpty();
+        }
+    }
+}
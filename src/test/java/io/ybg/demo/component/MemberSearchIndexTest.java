@@ -0,0 +1,58 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.repository.MemberRepo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class MemberSearchIndexTest {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final MemberRepo memberRepo = mock(MemberRepo.class);
+    private final MemberSearchIndex index = new MemberSearchIndex(memberRepo, mock(DataSource.class), new MemberProperties(), new SimpleMeterRegistry());
+
+    private static MemberDTO.InfoMemberDTO member(long id, String name) {
+        return MemberDTO.InfoMemberDTO.builder().id(id).name(name).email("search" + id + "@mail.com").phone("010-1234-5678").build();
+    }
+
+    @DisplayName("rebuild 중 / 교체 직후 commit 된 변경도 검색에 반영")
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildChangesTest() {
+        // given : 적재 중 2번 생성, 다시 읽는 조회 중 3번 생성
+        Map<Long, MemberDTO.InfoMemberDTO> members = Map.of(1L, member(1, "운영자"), 2L, member(2, "홍길동"), 3L, member(3, "홍길순"));
+        doReturn(Stream.of(members.get(1L)).peek(m -> index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.Type.CREATED, 2L))))
+                .when(memberRepo).streamAllInfo();
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                index.onMemberChanged(MemberChangedEvent.of(MemberChangedEvent.Type.CREATED, 3L));
+            }
+            return ((Collection<Long>) invocation.getArgument(0)).stream().map(members::get).toList();
+        }).when(memberRepo).findInfoByIdIn(anyCollection());
+
+        // when
+        index.rebuild();
+        List<Long> afterRebuild = index.search("홍길동", false, 10, NO_DEADLINE).ids();
+        List<Long> next = index.search("홍길", false, 10, NO_DEADLINE).ids();
+
+        // then
+        assertThat(afterRebuild).containsExactly(2L);
+        assertThat(next).containsExactly(2L, 3L);
+    }
+}
@@ -0,0 +1,97 @@
+package io.ybg.demo.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberTrigramIndexTest {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private MemberTrigramIndex index() {
+        MemberTrigramIndex index = new MemberTrigramIndex();
+        index.put(1, "운영자", "admin@mail.com", "010-1234-5678");
+        index.put(2, "운영팀장", "lead@mail.com", "010-2222-3333");
+        index.put(3, "홍길동", "hong.admin@mail.com", "010-9876-5432");
+        return index;
+    }
+
+    @DisplayName("점수 순 : 접두 > 포함, 같은 점수는 id 순")
+    @Test
+    void searchRankTest() {
+        // when
+        MemberTrigramIndex.Result result = index().search("admin", false, 10, NO_DEADLINE);
+
+        // then
+        assertThat(result.hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(1L, 3L);
+        assertThat(result.hits().getFirst().score()).isEqualTo(0.9);
+        assertThat(result.partial()).isFalse();
+    }
+
+    @DisplayName("3글자 미만 한글 이름 : 전체 확인")
+    @Test
+    void searchShortTest() {
+        // when
+        MemberTrigramIndex.Result result = index().search("운영", false, 10, NO_DEADLINE);
+
+        // then
+        assertThat(result.hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("이름 일치가 가장 높음")
+    @Test
+    void searchExactTest() {
+        // when
+        MemberTrigramIndex.Result result = index().search("운영자", false, 10, NO_DEADLINE);
+
+        // then
+        assertThat(result.hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(1L);
+        assertThat(result.hits().getFirst().score()).isEqualTo(1.0);
+    }
+
+    @DisplayName("전화번호 일부 : '-' 무시")
+    @Test
+    void searchPhoneTest() {
+        // when
+        MemberTrigramIndex.Result result = index().search("12345", true, 10, NO_DEADLINE);
+
+        // then
+        assertThat(result.hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(1L);
+    }
+
+    @DisplayName("수정 시 이전 값은 검색되지 않음, 삭제 반영")
+    @Test
+    void updateTest() {
+        // given
+        MemberTrigramIndex index = index();
+
+        // when
+        index.put(1, "관리자", "root@mail.com", "010-1234-5678");
+        index.remove(2);
+
+        // then
+        assertThat(index.search("admin", false, 10, NO_DEADLINE).hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(3L);
+        assertThat(index.search("운영", false, 10, NO_DEADLINE).hits()).isEmpty();
+        assertThat(index.search("관리자", false, 10, NO_DEADLINE).hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @DisplayName("limit 상위 건만, deadline 초과 시 partial")
+    @Test
+    void limitTest() {
+        // given
+        MemberTrigramIndex index = new MemberTrigramIndex();
+        IntStream.range(0, 1_000).forEach(i -> index.put(i, "유저" + i, "user" + i + "@mail.com", "010-1234-5678"));
+
+        // when
+        MemberTrigramIndex.Result top = index.search("user", false, 5, NO_DEADLINE);
+        MemberTrigramIndex.Result expired = index.search("user", false, 5, System.nanoTime() - 1);
+
+        // then
+        assertThat(top.hits()).extracting(MemberTrigramIndex.Hit::id).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(expired.partial()).isTrue();
+    }
+}
@@ -0,0 +1,48 @@
+package io.ybg.demo.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @DisplayName("burst 건 연속 허용, 이후 rate 간격으로 허용")
+    @Test
+    void tryAcquireTest() {
+        // given : 초당 2건, 연속 3건
+        AtomicLong now = new AtomicLong();
+        RateLimiter limiter = new RateLimiter(2, 3, now::get);
+
+        // when, then
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(SECOND / 2);
+
+        now.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isEqualTo(SECOND / 2);
+    }
+
+    @DisplayName("쉬는 동안 burst 까지만 회복")
+    @Test
+    void refillTest() {
+        // given
+        AtomicLong now = new AtomicLong();
+        RateLimiter limiter = new RateLimiter(10, 2, now::get);
+
+        // when
+        now.addAndGet(SECOND * 60);
+
+        // then
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isZero();
+        assertThat(limiter.tryAcquire()).isPositive();
+    }
+}
@@ -0,0 +1,116 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ybg.demo.config.MemberProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * H2 in-memory DB 2개를 primary/replica 로 사용
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MemberProperties.Replica properties = new MemberProperties.Replica();
+
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        // replica 지연을 테이블 값으로 흉내냄
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute("create table if not exists replica_lag(seconds double)");
+        replicaTemplate.update("delete from replica_lag");
+        replicaTemplate.update("insert into replica_lag values (0)");
+        properties.setLagQuery("select seconds from replica_lag");
+        properties.setMaxLag(Duration.ofSeconds(5));
+
+        lagMonitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+    }
+
+    private String url(DataSource routing, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(routing).execute((ConnectionCallback<String>) c -> c.getMetaData().getURL()));
+    }
+
+    private DataSource routing(DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicaDataSource, lagMonitor, meterRegistry));
+    }
+
+    @DisplayName("readOnly 트랜잭션만 replica")
+    @Test
+    void routeTest() {
+        // given
+        DataSource routing = routing(replica);
+        lagMonitor.check();
+
+        // when, then
+        assertThat(url(routing, true)).contains("replica");
+        assertThat(url(routing, false)).contains("primary");
+        assertThat(new JdbcTemplate(routing).execute((ConnectionCallback<String>) c -> c.getMetaData().getURL())).contains("primary");
+        assertThat(meterRegistry.get("member.datasource.route").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("최초 확인 전에는 primary")
+    @Test
+    void routeTest_unchecked() {
+        assertThat(url(routing(replica), true)).contains("primary");
+    }
+
+    @DisplayName("지연이 max-lag 이상이면 primary, 회복 시 replica")
+    @Test
+    void routeTest_lag() {
+        // given
+        DataSource routing = routing(replica);
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 60");
+
+        // when
+        lagMonitor.check();
+
+        // then
+        assertThat(lagMonitor.isAvailable()).isFalse();
+        assertThat(url(routing, true)).contains("primary");
+        assertThat(meterRegistry.get("member.datasource.replica.lag").gauge().value()).isEqualTo(60);
+
+        // when : 회복
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        lagMonitor.check();
+
+        // then
+        assertThat(url(routing, true)).contains("replica");
+    }
+
+    @DisplayName("replica connection 실패 시 primary 로 fallback")
+    @Test
+    void routeTest_down() throws SQLException {
+        // given
+        DataSource broken = mock(DataSource.class);
+        doThrow(new SQLException("replica down")).when(broken).getConnection();
+        lagMonitor.check();
+
+        // when
+        String url = url(routing(broken), true);
+
+        // then
+        assertThat(url).contains("primary");
+        assertThat(lagMonitor.isAvailable()).isFalse();
+    }
+}
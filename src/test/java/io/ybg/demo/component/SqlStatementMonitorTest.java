@@ -0,0 +1,84 @@
+package io.ybg.demo.component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class SqlStatementMonitorTest {
+
+    private final MockMvc mockMvc;
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementMonitor sqlStatementMonitor;
+    private final MemberRepo memberRepo;
+
+    private MemberEntity member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepo.save(MemberEntity.builder().email("sql@mail.com").name("유저").phone("010-1234-5678").build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepo.deleteById(member.getId());
+    }
+
+    @DisplayName("요청 당 구문 수 handler 별 집계")
+    @Test
+    void countPerRequestTest() throws Exception {
+        // when
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/" + member.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        DistributionSummary statements = meterRegistry.find("http.server.sql.statements")
+                .tag("handler", "MemberController#getMemberById")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.find("db.sql.statements").tag("type", "select").timer()).isNotNull();
+    }
+
+    @DisplayName("같은 SELECT 반복 시 N+1 로 실패")
+    @Test
+    void repeatTest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(this, SqlStatementMonitorTest.class.getDeclaredMethod("repeatTest"));
+        sqlStatementMonitor.preHandle(request, response, handler);
+
+        try {
+            // when, then
+            assertThatThrownBy(() -> IntStream.range(0, 10).forEach(i -> memberRepo.findById(member.getId())))
+                    .hasStackTraceContaining("possible N+1");
+        } finally {
+            sqlStatementMonitor.afterCompletion(request, response, handler, null);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.ybg.demo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ybg.demo.dto.MemberDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    private KeyValue reason(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        ServerRequestObservationContext context = new ServerRequestObservationContext(new MockHttpServletRequest("GET", "/member/v1/1"), response);
+        return new MetricsConfig.ReasonObservationConvention().getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals("reason"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @DisplayName("controller 분기별 reason tag")
+    @Test
+    void reasonTest() {
+        assertThat(reason(200).getValue()).isEqualTo("NONE");
+        assertThat(reason(304).getValue()).isEqualTo("NOT_MODIFIED");
+        assertThat(reason(400).getValue()).isEqualTo("BAD_REQUEST");
+        assertThat(reason(404).getValue()).isEqualTo("NOT_FOUND");
+        assertThat(reason(409).getValue()).isEqualTo("CONFLICT");
+        assertThat(reason(500).getValue()).isEqualTo("INTERNAL_SERVER_ERROR");
+    }
+
+    @DisplayName("JSON 직렬화 시간 기록")
+    @Test
+    void serializationTimerTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MetricsConfig.TimedJackson2HttpMessageConverter converter = new MetricsConfig.TimedJackson2HttpMessageConverter(new ObjectMapper().findAndRegisterModules(), meterRegistry, 2048);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // when
+        converter.write(MemberDTO.InfoMemberDTO.builder().id(1L).email("admin@mail.com").build(), MediaType.APPLICATION_JSON, output);
+
+        // then
+        assertThat(output.getBodyAsString()).contains("admin@mail.com");
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(output.getBodyAsBytes().length);
+        assertThat(meterRegistry.get("http.server.serialization").tags("format", "json", "type", "InfoMemberDTO").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("CBOR 직렬화 시간 기록")
+    @Test
+    void cborSerializationTimerTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CBORMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+        MetricsConfig.TimedCborHttpMessageConverter converter = new MetricsConfig.TimedCborHttpMessageConverter(cborMapper, meterRegistry, 2048);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // when
+        converter.write(MemberDTO.InfoMemberDTO.builder().id(1L).email("admin@mail.com").build(), MediaType.APPLICATION_CBOR, output);
+
+        // then
+        assertThat(cborMapper.readTree(output.getBodyAsBytes()).get("email").asText()).isEqualTo("admin@mail.com");
+        assertThat(meterRegistry.get("http.server.serialization").tags("format", "cbor", "type", "InfoMemberDTO").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("buffer 크기 초과 : Content-Length 없이 그대로 전송")
+    @Test
+    void serializationStreamTest() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MetricsConfig.TimedJackson2HttpMessageConverter converter = new MetricsConfig.TimedJackson2HttpMessageConverter(new ObjectMapper().findAndRegisterModules(), meterRegistry, 16);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // when
+        converter.write(MemberDTO.InfoMemberDTO.builder().id(1L).email("admin@mail.com").build(), MediaType.APPLICATION_JSON, output);
+
+        // then
+        assertThat(output.getBodyAsString()).contains("admin@mail.com");
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(-1);
+        assertThat(meterRegistry.get("http.server.serialization").tags("format", "json", "type", "InfoMemberDTO").timer().count()).isEqualTo(1);
+    }
+}
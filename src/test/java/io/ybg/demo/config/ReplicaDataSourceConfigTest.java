@@ -0,0 +1,84 @@
+package io.ybg.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ybg.demo.component.ReplicaLagMonitor;
+import io.ybg.demo.component.ReplicaRoutingDataSource;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.TestConstructor;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * replica 는 같은 H2 DB 를 바라보는 두 번째 pool 로 대신함
+ */
+@SpringBootTest(properties = {
+        "member.datasource.replica.url=jdbc:h2:mem:db;DB_CLOSE_DELAY=-1",
+        "member.datasource.replica.lag-query=select 0"
+})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class ReplicaDataSourceConfigTest {
+
+    private final DataSource dataSource;
+    private final MemberService memberService;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void checkLag() {
+        replicaLagMonitor.check();
+    }
+
+    private double routes(String target) {
+        return meterRegistry.get("member.datasource.route").tag("target", target).counter().count();
+    }
+
+    @DisplayName("JPA DataSource : lazy proxy -> routing")
+    @Test
+    void dataSourceTest() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isInstanceOf(ReplicaRoutingDataSource.class);
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+    }
+
+    @DisplayName("조회는 replica, 삭제는 primary")
+    @Test
+    void routeTest() {
+        // given
+        double replica = routes("replica");
+        double primary = routes("primary");
+
+        // when
+        memberService.getAllMembers();
+        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMemberById(-1L));
+
+        // then
+        assertThat(routes("replica")).isEqualTo(replica + 1);
+        assertThat(routes("primary")).isEqualTo(primary + 1);
+    }
+
+    @DisplayName("cache 를 채우는 조회는 primary")
+    @Test
+    void cacheableRouteTest() {
+        // given
+        double replica = routes("replica");
+        double primary = routes("primary");
+
+        // when
+        assertThrows(MemberNotFoundException.class, () -> memberService.getMemberById(-1L));
+
+        // then
+        assertThat(routes("replica")).isEqualTo(replica);
+        assertThat(routes("primary")).isEqualTo(primary + 1);
+    }
+}
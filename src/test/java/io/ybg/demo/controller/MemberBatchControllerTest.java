@@ -0,0 +1,120 @@
+package io.ybg.demo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.service.MemberBatchService;
+import jakarta.servlet.ServletException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MemberBatchController.class)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberBatchControllerTest {
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @MockBean
+    private MemberBatchService memberBatchService;
+
+    @DisplayName("대량 가입 정상")
+    @Test
+    void createMembersTest() throws Exception {
+        // given
+        final String url = "/member/v1/batch";
+        doReturn(List.of(
+                new MemberDTO.BatchResultDTO(0, 1L, MemberDTO.BatchStatus.CREATED, null),
+                new MemberDTO.BatchResultDTO(1, null, MemberDTO.BatchStatus.CONFLICT, "Email already exists")
+        )).when(memberBatchService).saveMembers(anyList());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(mapper.writeValueAsString(List.of(
+                                MemberDTO.CreateMemberDTO.builder().email("a@mail.com").build(),
+                                MemberDTO.CreateMemberDTO.builder().email("admin@mail.com").build())))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("CONFLICT"));
+    }
+
+    @DisplayName("실패 : 최대 건수 초과")
+    @Test
+    void createMembers_tooMany() throws Exception {
+        // given
+        final String url = "/member/v1/batch";
+        doThrow(new InvalidMemberRequestException("Batch size exceeds")).when(memberBatchService).saveMembers(anyList());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("실패 : 내부 IllegalArgumentException 은 400 으로 바꾸지 않음")
+    @Test
+    void createMembers_internalError() {
+        // given
+        final String url = "/member/v1/batch";
+        doThrow(new IllegalArgumentException("internal")).when(memberBatchService).saveMembers(anyList());
+
+        // when, then : 처리되지 않은 예외 (서버에서는 500)
+        assertThrows(ServletException.class, () -> mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON)
+        ));
+    }
+
+    @DisplayName("대량 삭제 정상")
+    @Test
+    void deleteMembersTest() throws Exception {
+        // given
+        final String url = "/member/v1/batch";
+        doReturn(List.of(new MemberDTO.BatchResultDTO(0, 1L, MemberDTO.BatchStatus.DELETED, null)))
+                .when(memberBatchService).deleteMembers(anyList());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.delete(url)
+                        .content("[1]")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DELETED"));
+
+        // verify
+        verify(memberBatchService, times(1)).deleteMembers(List.of(1L));
+    }
+}
@@ -0,0 +1,89 @@
+package io.ybg.demo.controller;
+
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * server.compression 은 tomcat 에서 처리하므로 실제 서버로 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberCompressionTest {
+
+    private final MemberRepo memberRepo;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private List<MemberEntity> members;
+
+    @BeforeEach
+    void setUp() {
+        members = memberRepo.saveAll(IntStream.range(0, 50)
+                .mapToObj(i -> MemberEntity.builder().email("gzip" + i + "@mail.com").name("유저" + i).phone("010-1234-5678").build())
+                .toList());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepo.deleteAllInBatch(members);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @DisplayName("리스트 : Accept-Encoding gzip 이면 압축")
+    @Test
+    void compressTest() throws Exception {
+        // when
+        HttpResponse<byte[]> gzip = get("/member/v1", "gzip");
+        HttpResponse<byte[]> plain = get("/member/v1", null);
+
+        // then
+        assertThat(gzip.statusCode()).isEqualTo(200);
+        assertThat(gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(plain.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        assertThat(gzip.body().length).isLessThan(plain.body().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.body());
+        }
+    }
+
+    @DisplayName("min-response-size 미만은 압축하지 않음")
+    @Test
+    void compressTest_small() throws Exception {
+        // when
+        HttpResponse<byte[]> response = get("/member/v1/page?size=1", "gzip");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+    }
+}
@@ -1,33 +1,54 @@
 package io.ybg.demo.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.ybg.demo.config.MemberProperties;
 import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.DuplicateEmailException;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.exception.MemberVersionMismatchException;
 import io.ybg.demo.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest
+@WebMvcTest(MemberController.class)
+// controller 가 MemberProperties 사용, slice 에는 @ConfigurationPropertiesScan 이 적용되지 않음
+@EnableConfigurationProperties(MemberProperties.class)
 @Slf4j
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @RequiredArgsConstructor
@@ -41,6 +62,12 @@ class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    // 목록 version 기본값
+    @BeforeEach
+    void stubListVersion() {
+        lenient().doReturn(new MemberDTO.ListVersionDTO(0, null)).when(memberService).getMembersVersion();
+    }
+
     @DisplayName("초기화 상태")
     @Test
     public void initTest() {
@@ -57,6 +84,10 @@ class MemberControllerTest {
         return MemberDTO.CreateMemberDTO.builder().email("admin@mail.com").name("운영자").phone("010-1234-5678").build();
     }
 
+    private MemberDTO.InfoMemberDTO getInfoDTO(long id) {
+        return MemberDTO.InfoMemberDTO.builder().id(id).email("admin@mail.com").name("운영자").phone("010-1234-5678").version(0L).build();
+    }
+
     @Nested
     @DisplayName("가입")
     class create {
@@ -86,7 +117,7 @@ class MemberControllerTest {
         void createMemberTest_dup() throws Exception {
             // given
             final String url = "/member/v1";
-            doThrow(new RuntimeException("Email already exists")).when(memberService).saveMember(any(MemberEntity.class));
+            doThrow(new DuplicateEmailException()).when(memberService).saveMember(any(MemberEntity.class));
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -96,11 +127,11 @@ class MemberControllerTest {
             );
 
             // then
-            resultActions.andExpect(status().isBadRequest());
-            // TODO ybg 240809 Exception class, ControllerAdvice 추가 후 개선 예정
-//                    .andExpect(result -> {
-//                        assertThat(result.getResponse().getContentAsString()).contains("Email already exists");
-//                    });
+            resultActions.andExpect(status().isConflict())
+                    .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                    .andExpect(result -> {
+                        assertThat(result.getResponse().getContentAsString()).contains("Email already exists");
+                    });
         }
 
         @DisplayName("실패 : db error")
@@ -131,7 +162,7 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doReturn(mock(MemberEntity.class)).when(memberService).getMemberById(anyLong());
+            doReturn(getInfoDTO(1L)).when(memberService).getMemberById(anyLong());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -148,24 +179,123 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doThrow(new RuntimeException("Find Member with id: " + id + " doesn't exist")).when(memberService).getMemberById(id);
+            doThrow(new MemberNotFoundException("Find", "id", id)).when(memberService).getMemberById(id);
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url + id)
+            );
+
+            // then
+            resultActions.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.status").value(404))
+                    .andExpect(jsonPath("$.detail").value("Find Member with id: " + id + " doesn't exist"));
+        }
+
+        @DisplayName("ID ETag 반환")
+        @Test
+        void getMemberByIdTest_eTag() throws Exception {
+            // given
+            final String url = "/member/v1/";
+            final long id = 1L;
+            doReturn(MemberDTO.InfoMemberDTO.builder().id(id).version(2L).build()).when(memberService).getMemberById(id);
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url + id)
+            );
+
+            // then
+            resultActions.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                    .andExpect(jsonPath("$.version").value(2));
+        }
+
+        @DisplayName("ID If-None-Match 일치 : 304")
+        @Test
+        void getMemberByIdTest_notModified() throws Exception {
+            // given
+            final String url = "/member/v1/";
+            final long id = 1L;
+            doReturn(MemberDTO.InfoMemberDTO.builder().id(id).version(2L).build()).when(memberService).getMemberById(id);
 
             // when
             final ResultActions resultActions = mockMvc.perform(
                     MockMvcRequestBuilders.get(url + id)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"1\", W/\"2\"")
+            );
+
+            // then
+            resultActions.andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                    .andExpect(content().string(""));
+        }
+
+        @DisplayName("UUID 정상")
+        @Test
+        void getMemberByUuidTest() throws Exception {
+            // given
+            final String url = "/member/v1/uuid/";
+            final UUID uuid = UUID.randomUUID();
+            doReturn(1L).when(memberService).getMemberIdByUuid(uuid);
+            doReturn(getInfoDTO(1L)).when(memberService).getMemberById(1L);
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url + uuid)
+            );
+
+            // then
+            resultActions.andExpect(status().isOk());
+        }
+
+        @DisplayName("UUID 실패 : 존재하지 않는 회원")
+        @Test
+        void getMemberByUuidTest_notFound() throws Exception {
+            // given
+            final String url = "/member/v1/uuid/";
+            final UUID uuid = UUID.randomUUID();
+            doThrow(new MemberNotFoundException("Find", "uuid", uuid)).when(memberService).getMemberIdByUuid(uuid);
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url + uuid)
             );
 
             // then
             resultActions.andExpect(status().isNotFound());
         }
 
+        @DisplayName("UUID 목록 정상")
+        @Test
+        void getMembersByUuidsTest() throws Exception {
+            // given
+            final String url = "/member/v1/uuid";
+            final UUID uuid1 = UUID.randomUUID();
+            final UUID uuid2 = UUID.randomUUID();
+            doReturn(List.of(getInfoDTO(1L))).when(memberService).getMembersByUuids(anyList());
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url).param("uuids", uuid1.toString(), uuid2.toString())
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1));
+
+            // verify
+            verify(memberService, times(1)).getMembersByUuids(List.of(uuid1, uuid2));
+        }
+
         @DisplayName("리스트 정상")
         @Test
         void getAllMembersTest() throws Exception {
             // given
             final String url = "/member/v1";
-            doReturn(new ArrayList<MemberEntity>() {{
-                add(mock(MemberEntity.class));
+            doReturn(new ArrayList<MemberDTO.InfoMemberDTO>() {{
+                add(getInfoDTO(1L));
             }}).when(memberService).getAllMembers();
 
             // when
@@ -179,12 +309,100 @@ class MemberControllerTest {
             resultActions.andExpect(status().isOk());
         }
 
+        @DisplayName("리스트 캐시 헤더 : weak ETag, Last-Modified, Cache-Control, Vary")
+        @Test
+        void getAllMembersTest_cacheHeaders() throws Exception {
+            // given
+            final String url = "/member/v1";
+            final LocalDateTime modified = LocalDateTime.of(2024, 7, 25, 12, 0, 0);
+            final long epochMilli = modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            doReturn(new MemberDTO.ListVersionDTO(3, modified)).when(memberService).getMembersVersion();
+            doReturn(List.of(getInfoDTO(1L))).when(memberService).getAllMembers();
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get(url));
+
+            // then
+            resultActions.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"3-" + epochMilli + "\""))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, epochMilli))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, public, s-maxage=5"))
+                    .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+        }
+
+        @DisplayName("리스트 If-None-Match 일치 : 목록 조회 없이 304")
+        @Test
+        void getAllMembersTest_notModified() throws Exception {
+            // given
+            final String url = "/member/v1";
+            doReturn(new MemberDTO.ListVersionDTO(3, null)).when(memberService).getMembersVersion();
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, "W/\"3-0\"")
+            );
+
+            // then
+            resultActions.andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"3-0\""))
+                    .andExpect(content().string(""));
+
+            // verify
+            verify(memberService, never()).getAllMembers();
+        }
+
+        @DisplayName("리스트 If-None-Match 불일치 : 200")
+        @Test
+        void getAllMembersTest_modified() throws Exception {
+            // given
+            final String url = "/member/v1";
+            doReturn(new MemberDTO.ListVersionDTO(4, null)).when(memberService).getMembersVersion();
+            doReturn(List.of(getInfoDTO(1L))).when(memberService).getAllMembers();
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url).header(HttpHeaders.IF_NONE_MATCH, "W/\"3-0\"")
+            );
+
+            // then
+            resultActions.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"4-0\""));
+        }
+
+        @DisplayName("리스트 binary : Accept 별 CBOR, Smile")
+        @Test
+        void getAllMembersTest_binary() throws Exception {
+            // given
+            final String url = "/member/v1";
+            doReturn(List.of(getInfoDTO(1L), getInfoDTO(2L))).when(memberService).getAllMembers();
+
+            // when
+            final byte[] cbor = mockMvc.perform(MockMvcRequestBuilders.get(url).accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+            final byte[] smile = mockMvc.perform(MockMvcRequestBuilders.get(url).accept(new MediaType("application", "x-jackson-smile")))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(new MediaType("application", "x-jackson-smile")))
+                    .andReturn().getResponse().getContentAsByteArray();
+            final byte[] json = mockMvc.perform(MockMvcRequestBuilders.get(url).accept(MediaType.APPLICATION_JSON))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            // then
+            JsonNode cborNode = new CBORMapper().readTree(cbor);
+            JsonNode smileNode = new SmileMapper().readTree(smile);
+            assertThat(cborNode).isEqualTo(mapper.readTree(json));
+            assertThat(smileNode).isEqualTo(mapper.readTree(json));
+            assertThat(cborNode.get(1).get("id").asLong()).isEqualTo(2L);
+            assertThat(cbor.length).isLessThan(json.length);
+        }
+
         @DisplayName("리스트 공백")
         @Test
         void getAllMembersTest_empty() throws Exception {
             // given
             final String url = "/member/v1";
-            doReturn(new ArrayList<MemberEntity>()).when(memberService).getAllMembers();
+            doReturn(new ArrayList<MemberDTO.InfoMemberDTO>()).when(memberService).getAllMembers();
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -195,6 +413,74 @@ class MemberControllerTest {
             resultActions.andExpect(status().isNoContent());
         }
 
+        @DisplayName("cursor 페이지 : 다음 페이지 있음")
+        @Test
+        void getMembersPageTest() throws Exception {
+            // given
+            final String url = "/member/v1/page";
+            final MemberDTO.InfoMemberDTO member = getInfoDTO(7L);
+            doReturn(new SliceImpl<>(List.of(member), PageRequest.of(0, 1), true)).when(memberService).getMembersAfter(anyLong(), any());
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url).param("cursor", "6").param("size", "1")
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.members[0].id").value(7))
+                    .andExpect(jsonPath("$.nextCursor").value(7));
+
+            // verify
+            verify(memberService, times(1)).getMembersAfter(6L, 1);
+        }
+
+        @DisplayName("cursor 페이지 : 마지막 페이지")
+        @Test
+        void getMembersPageTest_last() throws Exception {
+            // given
+            final String url = "/member/v1/page";
+            doReturn(new SliceImpl<>(List.of(getInfoDTO(1L)), PageRequest.of(0, 20), false)).when(memberService).getMembersAfter(anyLong(), any());
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.get(url)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @DisplayName("스트리밍 : NDJSON")
+        @Test
+        void streamAllMembersTest() throws Exception {
+            // given
+            final String url = "/member/v1/stream";
+            doAnswer(invocation -> {
+                Consumer<MemberDTO.InfoMemberDTO> consumer = invocation.getArgument(0);
+                consumer.accept(MemberDTO.InfoMemberDTO.builder().id(1L).email("a@mail.com").build());
+                consumer.accept(MemberDTO.InfoMemberDTO.builder().id(2L).email("b@mail.com").build());
+                return null;
+            }).when(memberService).streamAllMembers(any());
+
+            // when
+            final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            final ResultActions resultActions = mockMvc.perform(asyncDispatch(asyncResult));
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andExpect(result -> assertThat(result.getResponse().getContentAsString().lines())
+                            .hasSize(2)
+                            .allSatisfy(line -> assertThat(line).startsWith("{\"id\":")));
+        }
+
         @DisplayName("이메일 사용 : true")
         @Test
         void getMemberByEmailTest() throws Exception {
@@ -243,7 +529,7 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doReturn(mock(MemberEntity.class)).when(memberService).updateMember(anyLong(), any(MemberEntity.class));
+            doReturn(mock(MemberEntity.class)).when(memberService).updateMember(anyLong(), any(MemberEntity.class), any());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -256,16 +542,61 @@ class MemberControllerTest {
             resultActions.andExpect(status().isOk());
 
             // verify
-            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class));
+            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class), any());
         }
 
-        @DisplayName("실패 : email not found")
+        @DisplayName("실패 : If-Match 버전 불일치")
+        @Test
+        void updateMemberTest_preconditionFailed() throws Exception {
+            // given
+            final String url = "/member/v1/";
+            final long id = 1L;
+            doThrow(new MemberVersionMismatchException("Update", 1L, 0L)).when(memberService).updateMember(anyLong(), any(MemberEntity.class), eq(0L));
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.put(url + id)
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .content(mapper.writeValueAsString(getUpdateDTO()))
+                            .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions.andExpect(status().isPreconditionFailed());
+
+            // verify
+            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class), eq(0L));
+        }
+
+        @DisplayName("실패 : 존재하지 않음")
+        @Test
+        void updateMemberTest_missing() throws Exception {
+            // given
+            final String url = "/member/v1/";
+            final long id = 1L;
+            doThrow(new MemberNotFoundException("Update", "id", id)).when(memberService).updateMember(anyLong(), any(MemberEntity.class), any());
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.put(url + id)
+                            .content(mapper.writeValueAsString(getUpdateDTO()))
+                            .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions.andExpect(status().isNotFound());
+
+            // verify
+            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class), any());
+        }
+
+        @DisplayName("실패 : 이메일 충돌")
         @Test
         void updateMemberTest_notFound() throws Exception {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doThrow(new RuntimeException("Email not found")).when(memberService).updateMember(anyLong(), any(MemberEntity.class));
+            doThrow(new DuplicateEmailException("Update")).when(memberService).updateMember(anyLong(), any(MemberEntity.class), any());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -278,7 +609,7 @@ class MemberControllerTest {
             resultActions.andExpect(status().isConflict());
 
             // verify
-            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class));
+            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class), any());
         }
 
         @DisplayName("실패 : DB")
@@ -287,8 +618,8 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doThrow(new DataIntegrityViolationException("TEST")).when(memberService).updateMember(anyLong(), any(MemberEntity.class));
-            doReturn(mock(MemberEntity.class)).when(memberService).getMemberById(anyLong());
+            doThrow(new DataIntegrityViolationException("TEST")).when(memberService).updateMember(anyLong(), any(MemberEntity.class), any());
+            doReturn(getInfoDTO(1L)).when(memberService).getMemberById(anyLong());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -301,7 +632,7 @@ class MemberControllerTest {
             resultActions.andExpect(status().isInternalServerError());
 
             // verify
-            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class));
+            verify(memberService, times(1)).updateMember(anyLong(), any(MemberEntity.class), any());
         }
     }
 
@@ -314,7 +645,7 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doNothing().when(memberService).deleteMemberById(anyLong());
+            doNothing().when(memberService).deleteMemberById(anyLong(), any());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -325,7 +656,48 @@ class MemberControllerTest {
             resultActions.andExpect(status().isOk());
 
             // verify
-            verify(memberService, times(1)).deleteMemberById(anyLong());
+            verify(memberService, times(1)).deleteMemberById(anyLong(), any());
+        }
+
+        @DisplayName("실패 : If-Match 버전 불일치")
+        @Test
+        void deleteMemberByIdTest_preconditionFailed() throws Exception {
+            // given
+            final String url = "/member/v1/";
+            final long id = 1L;
+            doThrow(new MemberVersionMismatchException("Delete", 1L, 3L)).when(memberService).deleteMemberById(anyLong(), eq(3L));
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.delete(url + id)
+                            .header(HttpHeaders.IF_MATCH, "\"3\"")
+            );
+
+            // then
+            resultActions.andExpect(status().isPreconditionFailed());
+
+            // verify
+            verify(memberService, times(1)).deleteMemberById(anyLong(), eq(3L));
+        }
+
+        @DisplayName("실패 : If-Match weak tag 는 strong 비교에서 불일치")
+        @Test
+        void deleteMemberByIdTest_weakETag() throws Exception {
+            // given
+            final String url = "/member/v1/";
+            final long id = 1L;
+
+            // when
+            final ResultActions resultActions = mockMvc.perform(
+                    MockMvcRequestBuilders.delete(url + id)
+                            .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+            );
+
+            // then
+            resultActions.andExpect(status().isPreconditionFailed());
+
+            // verify
+            verify(memberService, never()).deleteMemberById(anyLong(), any());
         }
 
         @DisplayName("실패 : 존재하지 않음")
@@ -334,7 +706,7 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doThrow(new RuntimeException("Delete Member with id: " + id + " doesn't exist")).when(memberService).deleteMemberById(anyLong());
+            doThrow(new MemberNotFoundException("Delete", "id", id)).when(memberService).deleteMemberById(anyLong(), any());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -342,10 +714,10 @@ class MemberControllerTest {
             );
 
             // then
-            resultActions.andExpect(status().isConflict());
+            resultActions.andExpect(status().isNotFound());
 
             // verify
-            verify(memberService, times(1)).deleteMemberById(anyLong());
+            verify(memberService, times(1)).deleteMemberById(anyLong(), any());
         }
 
         @DisplayName("실패")
@@ -354,7 +726,7 @@ class MemberControllerTest {
             // given
             final String url = "/member/v1/";
             final long id = 1L;
-            doThrow(new DataIntegrityViolationException("TEST")).when(memberService).deleteMemberById(anyLong());
+            doThrow(new DataIntegrityViolationException("TEST")).when(memberService).deleteMemberById(anyLong(), any());
 
             // when
             final ResultActions resultActions = mockMvc.perform(
@@ -365,7 +737,7 @@ class MemberControllerTest {
             resultActions.andExpect(status().isInternalServerError());
 
             // verify
-            verify(memberService, times(1)).deleteMemberById(anyLong());
+            verify(memberService, times(1)).deleteMemberById(anyLong(), any());
         }
     }
 
@@ -0,0 +1,47 @@
+package io.ybg.demo.controller;
+
+import io.ybg.demo.component.EmailFilter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 다른 instance 의 가입이 filter 에 아직 반영되지 않은 경우 : 사전 검사를 건너뛰고 unique 제약에서 걸림
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberCreateConflictTest {
+
+    private final MockMvc mockMvc;
+
+    @SpyBean
+    private EmailFilter emailFilter;
+
+    @DisplayName("bloom filter 음성 + 이미 있는 email -> 409")
+    @Test
+    void createMember_filterStale() throws Exception {
+        // given : InitDataLoader 의 운영자 계정
+        doReturn(false).when(emailFilter).mightContain(anyString());
+
+        // when, then
+        mockMvc.perform(MockMvcRequestBuilders.post("/member/v1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"admin@mail.com\",\"name\":\"운영자\",\"phone\":\"010-1234-5678\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Email already exists"));
+    }
+}
@@ -0,0 +1,97 @@
+package io.ybg.demo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.IngestQueueFullException;
+import io.ybg.demo.service.MemberIngestService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = MemberIngestController.class, properties = "member.ingest.enabled=true")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberIngestControllerTest {
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @MockBean
+    private MemberIngestService memberIngestService;
+
+    private final MemberDTO.CreateMemberDTO member = MemberDTO.CreateMemberDTO.builder()
+            .email("ingest@mail.com").name("홍길동").phone("010-1234-5678").build();
+
+    @DisplayName("접수 : 202, Location")
+    @Test
+    void ingestMemberTest() throws Exception {
+        // given
+        UUID trackingId = UUID.randomUUID();
+        doReturn(new MemberDTO.IngestStatusDTO(trackingId, MemberDTO.IngestStatus.QUEUED, null, null))
+                .when(memberIngestService).accept(any(MemberDTO.CreateMemberDTO.class));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post("/member/v1/ingest")
+                        .content(mapper.writeValueAsString(member))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/member/v1/ingest/" + trackingId))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @DisplayName("실패 : 큐가 가득 참 -> 429, Retry-After")
+    @Test
+    void ingestMember_full() throws Exception {
+        // given
+        doThrow(new IngestQueueFullException(10, Duration.ofSeconds(2)))
+                .when(memberIngestService).accept(any(MemberDTO.CreateMemberDTO.class));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post("/member/v1/ingest")
+                        .content(mapper.writeValueAsString(member))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    @DisplayName("실패 : 알 수 없는 tracking id -> 404")
+    @Test
+    void getIngestStatus_notFound() throws Exception {
+        // given
+        doReturn(null).when(memberIngestService).getStatus(any(UUID.class));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get("/member/v1/ingest/" + UUID.randomUUID())
+        );
+
+        // then
+        resultActions.andExpect(status().isNotFound());
+        verify(memberIngestService, times(1)).getStatus(any(UUID.class));
+    }
+}
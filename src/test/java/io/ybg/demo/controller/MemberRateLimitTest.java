@@ -0,0 +1,80 @@
+package io.ybg.demo.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ybg.demo.component.RateLimitInterceptor;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.exception.RateLimitedException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "member.rate-limit.enabled=true",
+        "member.rate-limit.trust-client-header=true",
+        "member.rate-limit.policies[0].name=email-check",
+        "member.rate-limit.policies[0].pattern=/member/v1/email/check/**",
+        "member.rate-limit.policies[0].rate=1",
+        "member.rate-limit.policies[0].burst=2"
+})
+@AutoConfigureMockMvc
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberRateLimitTest {
+
+    private final MockMvc mockMvc;
+
+    @DisplayName("client 별 burst 초과 -> 429, Retry-After")
+    @Test
+    void rateLimitTest() throws Exception {
+        // given
+        final String url = "/member/v1/email/check/limit@mail.com";
+
+        // when, then
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header("X-Client-Id", "app-1")).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header("X-Client-Id", "app-1")).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header("X-Client-Id", "app-1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        // 다른 client, 정책이 없는 경로는 영향 없음
+        mockMvc.perform(MockMvcRequestBuilders.get(url).header("X-Client-Id", "app-2")).andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/page").header("X-Client-Id", "app-1")).andExpect(status().isOk());
+    }
+
+    @DisplayName("client header 를 신뢰하지 않으면 header 를 바꿔도 remote address 로 제한")
+    @Test
+    void untrustedClientHeaderTest() {
+        // given
+        MemberProperties properties = new MemberProperties();
+        properties.getRateLimit().getConcurrency().setEnabled(false);
+        properties.getRateLimit().setPolicies(List.of(new MemberProperties.Policy("email-check", null, "/member/v1/email/check/**", 1, 2)));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties, new SimpleMeterRegistry());
+
+        // when, then
+        for (int i = 0; i < 2; i++) {
+            assertThat(interceptor.preHandle(request("app-" + i), new MockHttpServletResponse(), null)).isTrue();
+        }
+        assertThrows(RateLimitedException.class, () -> interceptor.preHandle(request("app-other"), new MockHttpServletResponse(), null));
+    }
+
+    private MockHttpServletRequest request(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/member/v1/email/check/limit@mail.com");
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+}
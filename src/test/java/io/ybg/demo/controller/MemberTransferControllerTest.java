@@ -0,0 +1,145 @@
+package io.ybg.demo.controller;
+
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.service.MemberTransferService;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MemberTransferController.class)
+// controller 가 MemberProperties 사용, slice 에는 @ConfigurationPropertiesScan 이 적용되지 않음
+@EnableConfigurationProperties(MemberProperties.class)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberTransferControllerTest {
+
+    private final MockMvc mockMvc;
+
+    @MockBean
+    private MemberTransferService memberTransferService;
+
+    private MemberDTO.ImportStatusDTO completed(MemberDTO.TransferFormat format) {
+        return new MemberDTO.ImportStatusDTO(UUID.randomUUID(), format, MemberDTO.ImportState.COMPLETED, 2, 1, 0, 1, 0,
+                List.of(new MemberDTO.ImportErrorDTO(3, MemberDTO.BatchStatus.INVALID, "email: must be a well-formed email address")), false,
+                LocalDateTime.now(), 10, 200, null);
+    }
+
+    @DisplayName("multipart import : 확장자로 형식 결정")
+    @Test
+    void importMembersTest() throws Exception {
+        // given
+        doReturn(completed(MemberDTO.TransferFormat.CSV))
+                .when(memberTransferService).importMembers(eq(MemberDTO.TransferFormat.CSV), any());
+        MockMultipartFile file = new MockMultipartFile("file", "members.csv", MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                "email\na@mail.com\nnot-email\n".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.multipart("/member/v1/import").file(file))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final ResultActions resultActions = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @DisplayName("body import : Content-Type 으로 형식 결정")
+    @Test
+    void importMembersBodyTest() throws Exception {
+        // given
+        doReturn(completed(MemberDTO.TransferFormat.NDJSON))
+                .when(memberTransferService).importMembers(eq(MemberDTO.TransferFormat.NDJSON), any());
+
+        // when
+        final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.post("/member/v1/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"email\":\"a@mail.com\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final ResultActions resultActions = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.format").value("NDJSON"));
+    }
+
+    @DisplayName("import : 알 수 없는 형식 400")
+    @Test
+    void importUnknownFormatTest() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "members.xlsx", MediaType.APPLICATION_OCTET_STREAM_VALUE, new byte[]{1});
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.multipart("/member/v1/import").file(file));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        verify(memberTransferService, never()).importMembers(any(), any());
+    }
+
+    @DisplayName("import 진행 상황 : 없는 id 404")
+    @Test
+    void getImportNotFoundTest() throws Exception {
+        // given
+        doReturn(null).when(memberTransferService).getImport(any(UUID.class));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/import/" + UUID.randomUUID()));
+
+        // then
+        resultActions.andExpect(status().isNotFound());
+    }
+
+    @DisplayName("export : CSV 첨부 파일")
+    @Test
+    void exportMembersTest() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,uuid,email,name,phone,reg_dt,mod_dt\n1,,a@mail.com,,,,\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(memberTransferService).exportMembers(eq(MemberDTO.TransferFormat.CSV), any());
+
+        // when
+        final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/member/v1/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final ResultActions resultActions = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.csv\""))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsString().lines()).hasSize(2));
+    }
+}
@@ -0,0 +1,41 @@
+package io.ybg.demo.entity.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @DisplayName("version 7, RFC variant")
+    @Test
+    void versionTest() {
+        UUID uuid = UuidV7.randomUUID();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @DisplayName("생성 순서대로 정렬")
+    @Test
+    void monotonicTest() {
+        // given
+        List<String> uuids = IntStream.range(0, 100_000).mapToObj(i -> UuidV7.randomUUID().toString()).toList();
+
+        // then : 문자열(=바이트) 정렬 순서가 생성 순서와 같음
+        assertThat(uuids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @DisplayName("timestamp 는 현재 시각")
+    @Test
+    void timestampTest() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUUID();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before - 1_000, System.currentTimeMillis() + 1_000);
+    }
+}
@@ -0,0 +1,84 @@
+package io.ybg.demo.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.ybg.demo.dto.MemberDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 R2DBC driver 사용
+class MemberReactiveRepoTest {
+
+    private final DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get("r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1"));
+    private final MemberReactiveRepo memberReactiveRepo = new MemberReactiveRepo(databaseClient);
+    private final UUID uuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("drop table if exists member_entity").then()
+                .then(databaseClient.sql("""
+                        create table member_entity (
+                            id bigint primary key, uuid uuid, email varchar(64) unique, name varchar(255), phone varchar(255),
+                            reg_dt timestamp, mod_dt timestamp, version bigint)""").then())
+                .thenMany(Flux.range(1, 3).concatMap(i -> databaseClient
+                        .sql("insert into member_entity (id, uuid, email, name, phone, reg_dt, mod_dt, version) values (:id, :uuid, :email, '운영자', '010-1234-5678', now(), now(), 0)")
+                        .bind("id", (long) i)
+                        .bind("uuid", i == 1 ? uuid : UUID.randomUUID())
+                        .bind("email", "user" + i + "@mail.com")
+                        .then()))
+                .blockLast();
+    }
+
+    @DisplayName("전체 조회 : backpressure")
+    @Test
+    void findAllTest() {
+        StepVerifier.create(memberReactiveRepo.findAll(), 1)
+                .assertNext(m -> assertThat(m.getId()).isEqualTo(1L))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @DisplayName("cursor 페이지 조회")
+    @Test
+    void findAfterTest() {
+        StepVerifier.create(memberReactiveRepo.findAfter(1L, 1).map(MemberDTO.InfoMemberDTO::getId))
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+    @DisplayName("ID 조회")
+    @Test
+    void findByIdTest() {
+        StepVerifier.create(memberReactiveRepo.findById(2L))
+                .assertNext(m -> {
+                    assertThat(m.getEmail()).isEqualTo("user2@mail.com");
+                    assertThat(m.getName()).isEqualTo("운영자");
+                    assertThat(m.getReg_dt()).isNotNull();
+                    assertThat(m.getVersion()).isEqualTo(0L);
+                })
+                .verifyComplete();
+    }
+
+    @DisplayName("ID 조회 : 없음")
+    @Test
+    void findById_empty() {
+        StepVerifier.create(memberReactiveRepo.findById(99L))
+                .verifyComplete();
+    }
+
+    @DisplayName("UUID 조회")
+    @Test
+    void findByUuidTest() {
+        StepVerifier.create(memberReactiveRepo.findByUuid(uuid).map(MemberDTO.InfoMemberDTO::getId))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+}
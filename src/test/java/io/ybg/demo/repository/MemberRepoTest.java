@@ -1,15 +1,21 @@
 package io.ybg.demo.repository;
 
+import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestConstructor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -86,6 +92,62 @@ public class MemberRepoTest {
         assertThat(list.size()).isEqualTo(1);
     }
 
+    @DisplayName("유저 전체 검색 : DTO projection")
+    @Test
+    void findAllInfoTest() {
+        //given
+        MemberEntity member = memberRepo.save(getMemberEntity());
+
+        // when
+        List<MemberDTO.InfoMemberDTO> list = memberRepo.findAllInfo();
+
+        // then
+        assertThat(list.size()).isEqualTo(1);
+        assertThat(list.getFirst().getId()).isEqualTo(member.getId());
+        assertThat(list.getFirst().getEmail()).isEqualTo(member.getEmail());
+        assertThat(list.getFirst().getVersion()).isEqualTo(0L);
+    }
+
+    @DisplayName("유저 cursor 페이지 검색")
+    @Test
+    void findInfoByIdGreaterThanTest() {
+        //given
+        List<MemberEntity> members = memberRepo.saveAll(List.of(
+                getMemberEntity(),
+                MemberEntity.builder().email("user1@mail.com").name("유저1").phone("010-1111-1111").build(),
+                MemberEntity.builder().email("user2@mail.com").name("유저2").phone("010-2222-2222").build()));
+
+        // when
+        Slice<MemberDTO.InfoMemberDTO> first = memberRepo.findInfoByIdGreaterThan(0L, PageRequest.of(0, 2, Sort.by("id")));
+        Slice<MemberDTO.InfoMemberDTO> second = memberRepo.findInfoByIdGreaterThan(first.getContent().getLast().getId(), PageRequest.of(0, 2, Sort.by("id")));
+
+        log.info("{}", first.getContent());
+        log.info("{}", second.getContent());
+
+        // then
+        assertTrue(first.hasNext());
+        assertFalse(second.hasNext());
+        assertThat(first.getContent().size()).isEqualTo(2);
+        assertThat(second.getContent().size()).isEqualTo(1);
+        assertThat(second.getContent().getFirst().getId()).isEqualTo(members.getLast().getId());
+    }
+
+    @DisplayName("유저 전체 스트리밍")
+    @Test
+    void streamAllInfoTest() {
+        //given
+        memberRepo.save(getMemberEntity());
+
+        // when
+        long count;
+        try (Stream<MemberDTO.InfoMemberDTO> members = memberRepo.streamAllInfo()) {
+            count = members.count();
+        }
+
+        // then
+        assertThat(count).isEqualTo(1L);
+    }
+
     @DisplayName("유저 ID 검색")
     @Test
     void findIDTest() {
@@ -106,6 +168,43 @@ public class MemberRepoTest {
         assertThat(newMember.get()).isEqualTo(member);
     }
 
+    @DisplayName("유저 ID 검색 : DTO projection")
+    @Test
+    void findInfoByIdTest() {
+        //given
+        MemberEntity member = memberRepo.save(getMemberEntity());
+
+        // when
+        Optional<MemberDTO.InfoMemberDTO> info = memberRepo.findInfoById(member.getId());
+        Optional<MemberDTO.InfoMemberDTO> empty = memberRepo.findInfoById(-1L);
+
+        // then
+        assertTrue(empty.isEmpty());
+        assertThat(info.orElseThrow().getUuid()).isEqualTo(member.getUuid());
+        assertThat(info.orElseThrow().getName()).isEqualTo(member.getName());
+    }
+
+    @DisplayName("유저 UUID 검색")
+    @Test
+    void findByUuidTest() {
+        //given
+        MemberEntity member = memberRepo.save(getMemberEntity());
+        memberRepo.flush();
+
+        // when
+        Optional<Long> id = memberRepo.findIdByUuid(member.getUuid());
+        Optional<Long> empty = memberRepo.findIdByUuid(UUID.randomUUID());
+        List<MemberDTO.InfoMemberDTO> members = memberRepo.findInfoByUuidIn(List.of(member.getUuid(), UUID.randomUUID()));
+
+        log.info("{}", member.getUuid());
+
+        // then
+        assertThat(member.getUuid()).isNotNull();
+        assertThat(id).isEqualTo(Optional.of(member.getId()));
+        assertTrue(empty.isEmpty());
+        assertThat(members.size()).isEqualTo(1);
+    }
+
     @DisplayName("유저 수정")
     @Test
     void updateMemberTest() {
@@ -0,0 +1,122 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.dto.MemberDTO.BatchResultDTO;
+import io.ybg.demo.dto.MemberDTO.BatchStatus;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Slf4j
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberBatchServiceTest {
+
+    private final MemberBatchService memberBatchService;
+    private final MemberRepo memberRepo;
+
+    @AfterEach
+    void cleanUp() {
+        // InitDataLoader 의 운영자 계정은 유지
+        memberRepo.deleteAllInBatch(memberRepo.findAll().stream().filter(m -> !m.getEmail().equals("admin@mail.com")).toList());
+    }
+
+    private MemberDTO.CreateMemberDTO create(String email) {
+        return MemberDTO.CreateMemberDTO.builder().email(email).name("유저").phone("010-1234-5678").build();
+    }
+
+    @DisplayName("대량 가입 : 항목별 결과")
+    @Test
+    void saveMembersTest() {
+        // given
+        memberRepo.save(MemberEntity.builder().email("exists@mail.com").name("유저").phone("010-1234-5678").build());
+        List<MemberDTO.CreateMemberDTO> members = List.of(
+                create("batch1@mail.com"),
+                create("exists@mail.com"),  // DB 중복
+                create("batch1@mail.com"),  // 요청 내 중복
+                create("not-email"),        // 검증 실패
+                create("batch2@mail.com"));
+
+        // when
+        List<BatchResultDTO> results = memberBatchService.saveMembers(members);
+        log.info("{}", results.stream().map(BatchResultDTO::getStatus).toList());
+
+        // then
+        assertThat(results).extracting(BatchResultDTO::getStatus).containsExactly(
+                BatchStatus.CREATED, BatchStatus.CONFLICT, BatchStatus.CONFLICT, BatchStatus.INVALID, BatchStatus.CREATED);
+        assertThat(results.getFirst().getId()).isNotNull();
+        assertThat(memberRepo.existsByEmail("batch2@mail.com")).isTrue();
+    }
+
+    @DisplayName("대량 가입 : chunk 경계")
+    @Test
+    void saveMembers_chunks() {
+        // given
+        List<MemberDTO.CreateMemberDTO> members = IntStream.range(0, 1_200).mapToObj(i -> create("chunk" + i + "@mail.com")).toList();
+
+        // when
+        List<BatchResultDTO> results = memberBatchService.saveMembers(members);
+
+        // then
+        assertThat(results).hasSize(1_200).allMatch(r -> r.getStatus() == BatchStatus.CREATED);
+        assertThat(results).extracting(BatchResultDTO::getIndex).containsExactlyElementsOf(IntStream.range(0, 1_200).boxed().toList());
+    }
+
+    @DisplayName("대량 수정 : 항목별 결과")
+    @Test
+    void updateMembersTest() {
+        // given
+        MemberEntity member = memberRepo.save(MemberEntity.builder().email("before@mail.com").name("유저").phone("010-1234-5678").build());
+        List<MemberDTO.BatchUpdateMemberDTO> updates = List.of(
+                MemberDTO.BatchUpdateMemberDTO.builder().id(member.getId()).email("after@mail.com").name("수정").build(),
+                MemberDTO.BatchUpdateMemberDTO.builder().id(Long.MAX_VALUE).email("none@mail.com").build());
+
+        // when
+        List<BatchResultDTO> results = memberBatchService.updateMembers(updates);
+
+        // then
+        assertThat(results).extracting(BatchResultDTO::getStatus).containsExactly(BatchStatus.UPDATED, BatchStatus.NOT_FOUND);
+        MemberEntity updated = memberRepo.findById(member.getId()).orElseThrow();
+        assertThat(updated.getEmail()).isEqualTo("after@mail.com");
+        assertThat(updated.getName()).isEqualTo("수정");
+        assertThat(updated.getPhone()).isEqualTo("010-1234-5678");
+    }
+
+    @DisplayName("대량 삭제 : 항목별 결과")
+    @Test
+    void deleteMembersTest() {
+        // given
+        MemberEntity member = memberRepo.save(MemberEntity.builder().email("delete@mail.com").name("유저").phone("010-1234-5678").build());
+
+        // when
+        List<BatchResultDTO> results = memberBatchService.deleteMembers(List.of(member.getId(), Long.MAX_VALUE));
+
+        // then
+        assertThat(results).extracting(BatchResultDTO::getStatus).containsExactly(BatchStatus.DELETED, BatchStatus.NOT_FOUND);
+        assertThat(memberRepo.existsById(member.getId())).isFalse();
+    }
+
+    @DisplayName("실패 : 최대 건수 초과")
+    @Test
+    void saveMembers_tooMany() {
+        // given
+        List<MemberDTO.CreateMemberDTO> members = IntStream.range(0, 10_001).mapToObj(i -> create("many" + i + "@mail.com")).toList();
+
+        // when, then
+        assertThrows(InvalidMemberRequestException.class, () -> memberBatchService.saveMembers(members));
+    }
+}
@@ -0,0 +1,196 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.component.MemberOutbox;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.event.MemberChangedEvent;
+import io.ybg.demo.exception.ChangeFeedExpiredException;
+import io.ybg.demo.exception.DeltaExpiredException;
+import io.ybg.demo.repository.MemberOutboxRepo;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * relay 주기 실행은 꺼져 있음 (member.outbox.relay-interval: 0s), 직접 호출
+ */
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberChangeServiceTest {
+
+    private final MemberChangeService memberChangeService;
+    private final MemberService memberService;
+    private final MemberOutbox memberOutbox;
+    private final MemberOutboxRepo memberOutboxRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private long since;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트의 변경은 먼저 발행
+        int relayed;
+        do {
+            relayed = memberOutbox.relay();
+        } while (relayed > 0);
+        since = memberOutboxRepo.findMaxSeq();
+    }
+
+    private MemberEntity save(String email) {
+        return memberService.saveMember(MemberEntity.builder().email(email).name("변경").phone("010-1234-5678").build());
+    }
+
+    @DisplayName("생성/수정/삭제 순서대로, 현재 값 포함")
+    @Test
+    void getChangesTest() {
+        // given
+        MemberEntity kept = save("change1@mail.com");
+        MemberEntity deleted = save("change2@mail.com");
+        memberService.updateMember(kept.getId(), MemberEntity.builder().name("수정됨").build());
+        memberService.deleteMemberById(deleted.getId());
+
+        // when : 발행 전에는 보이지 않음
+        MemberDTO.ChangesDTO before = memberChangeService.getChanges(since, null);
+        int relayed = memberOutbox.relay();
+        MemberDTO.ChangesDTO result = memberChangeService.getChanges(since, null);
+
+        // then
+        assertThat(before.getChanges()).isEmpty();
+        assertThat(before.getNext()).isEqualTo(since);
+        assertThat(relayed).isEqualTo(4);
+        assertThat(result.getChanges())
+                .extracting(MemberDTO.ChangeDTO::getSeq, MemberDTO.ChangeDTO::getType, MemberDTO.ChangeDTO::getMemberId)
+                .containsExactly(
+                        tuple(since + 1, MemberChangedEvent.Type.CREATED, kept.getId()),
+                        tuple(since + 2, MemberChangedEvent.Type.CREATED, deleted.getId()),
+                        tuple(since + 3, MemberChangedEvent.Type.UPDATED, kept.getId()),
+                        tuple(since + 4, MemberChangedEvent.Type.DELETED, deleted.getId()));
+        assertThat(result.getChanges().getFirst().getMember().getName()).isEqualTo("수정됨");
+        assertThat(result.getChanges().get(1).getMember()).isNull();
+        assertThat(result.getNext()).isEqualTo(since + 4);
+        assertThat(result.isHasNext()).isFalse();
+
+        memberService.deleteMemberById(kept.getId());
+    }
+
+    @DisplayName("keyset 페이지 : next 를 since 로 이어서 요청")
+    @Test
+    void getChangesPageTest() {
+        // given
+        List<Long> ids = List.of(save("page1@mail.com").getId(), save("page2@mail.com").getId(), save("page3@mail.com").getId());
+        memberOutbox.relay();
+
+        // when
+        MemberDTO.ChangesDTO first = memberChangeService.getChanges(since, 2);
+        MemberDTO.ChangesDTO second = memberChangeService.getChanges(first.getNext(), 2);
+
+        // then
+        assertThat(first.getChanges()).extracting(MemberDTO.ChangeDTO::getMemberId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getChanges()).extracting(MemberDTO.ChangeDTO::getMemberId).containsExactly(ids.get(2));
+        assertThat(second.isHasNext()).isFalse();
+
+        ids.forEach(memberService::deleteMemberById);
+    }
+
+    @DisplayName("rollback 된 쓰기는 기록되지 않음")
+    @Test
+    void getChanges_rollback() {
+        // given
+        MemberEntity member = save("rollback@mail.com");
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(MemberChangedEvent.of(MemberChangedEvent.Type.UPDATED, member.getId()));
+            status.setRollbackOnly();
+        });
+        memberOutbox.relay();
+
+        // then
+        assertThat(memberChangeService.getChanges(since, null).getChanges())
+                .extracting(MemberDTO.ChangeDTO::getMemberId).containsExactly(member.getId());
+
+        memberService.deleteMemberById(member.getId());
+    }
+
+    @DisplayName("실패 : 보관 기간이 지나 삭제된 since -> 410")
+    @Test
+    void getChanges_expired() {
+        // given
+        MemberEntity member = save("expired@mail.com");
+        memberService.deleteMemberById(member.getId());
+        memberOutbox.relay();
+        memberOutboxRepo.deleteAll(memberOutboxRepo.findPublishedAfter(since, PageRequest.of(0, 1, Sort.by("seq"))).getContent());
+
+        // when, then
+        assertThrows(ChangeFeedExpiredException.class, () -> memberChangeService.getChanges(since, null));
+        assertThat(memberChangeService.getChanges(since + 1, null).getChanges()).hasSize(1);
+    }
+
+    @DisplayName("modified-since : 생성/수정 + 삭제 기록")
+    @Test
+    void getModifiedSinceTest() {
+        // given : 기준점
+        LocalDateTime start = memberChangeService.getModifiedSince(null, 0, null).getNextSince();
+        MemberEntity kept = save("delta1@mail.com");
+        MemberEntity deleted = save("delta2@mail.com");
+        memberService.updateMember(kept.getId(), MemberEntity.builder().name("수정됨").build());
+        memberService.deleteMemberById(deleted.getId());
+
+        // when
+        MemberDTO.DeltaDTO result = memberChangeService.getModifiedSince(start, 0, null);
+
+        // then
+        assertThat(result.getMembers()).extracting(MemberDTO.InfoMemberDTO::getId).containsExactly(kept.getId());
+        assertThat(result.getMembers().getFirst().getName()).isEqualTo("수정됨");
+        assertThat(result.getDeleted()).extracting(MemberDTO.TombstoneDTO::getId).containsExactly(deleted.getId());
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextSince()).isAfter(start);
+        assertThat(memberChangeService.getModifiedSince(result.getNextSince(), result.getNextId(), null).getMembers()).isEmpty();
+
+        memberService.deleteMemberById(kept.getId());
+    }
+
+    @DisplayName("modified-since keyset 페이지 : nextSince, nextId 로 이어서 요청")
+    @Test
+    void getModifiedSincePageTest() {
+        // given
+        LocalDateTime start = memberChangeService.getModifiedSince(null, 0, null).getNextSince();
+        List<Long> ids = List.of(save("delta3@mail.com").getId(), save("delta4@mail.com").getId(), save("delta5@mail.com").getId());
+
+        // when
+        MemberDTO.DeltaDTO first = memberChangeService.getModifiedSince(start, 0, 2);
+        MemberDTO.DeltaDTO second = memberChangeService.getModifiedSince(first.getNextSince(), first.getNextId(), 2);
+
+        // then
+        assertThat(first.getMembers()).extracting(MemberDTO.InfoMemberDTO::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextId()).isEqualTo(ids.get(1));
+        assertThat(second.getMembers()).extracting(MemberDTO.InfoMemberDTO::getId).containsExactly(ids.get(2));
+        assertThat(second.isHasNext()).isFalse();
+
+        ids.forEach(memberService::deleteMemberById);
+    }
+
+    @DisplayName("실패 : tombstone 보관 기간보다 오래된 since -> 410")
+    @Test
+    void getModifiedSince_expired() {
+        assertThrows(DeltaExpiredException.class, () -> memberChangeService.getModifiedSince(LocalDateTime.now().minusDays(31), 0, null));
+    }
+}
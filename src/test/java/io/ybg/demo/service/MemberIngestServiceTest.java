@@ -0,0 +1,99 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.exception.IngestQueueFullException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestConstructor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {"member.ingest.enabled=true", "member.ingest.capacity=2"})
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberIngestServiceTest {
+
+    @TempDir
+    static Path dir;
+
+    @DynamicPropertySource
+    static void journal(DynamicPropertyRegistry registry) {
+        registry.add("member.ingest.journal", () -> dir.resolve("ingest.journal").toString());
+    }
+
+    private final MemberIngestService memberIngestService;
+    private final MemberBatchService memberBatchService;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        if (!memberIngestService.isRunning()) {
+            memberIngestService.start();
+        }
+        memberBatchService.deleteMembers(created);
+        created.clear();
+    }
+
+    private MemberDTO.CreateMemberDTO member(String email) {
+        return MemberDTO.CreateMemberDTO.builder().email(email).name("홍길동").phone("010-1234-5678").build();
+    }
+
+    private MemberDTO.IngestStatusDTO await(UUID trackingId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            MemberDTO.IngestStatusDTO status = memberIngestService.getStatus(trackingId);
+            if (status.getStatus() != MemberDTO.IngestStatus.QUEUED) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        return memberIngestService.getStatus(trackingId);
+    }
+
+    @DisplayName("접수 후 가입 완료")
+    @Test
+    void acceptTest() throws Exception {
+        // when
+        MemberDTO.IngestStatusDTO accepted = memberIngestService.accept(member("ingest@mail.com"));
+
+        // then
+        assertThat(accepted.getStatus()).isEqualTo(MemberDTO.IngestStatus.QUEUED);
+        MemberDTO.IngestStatusDTO done = await(accepted.getTrackingId());
+        assertThat(done.getStatus()).isEqualTo(MemberDTO.IngestStatus.CREATED);
+        assertThat(done.getId()).isNotNull();
+        created.add(done.getId());
+        assertThat(memberIngestService.getStats().getQueued()).isZero();
+    }
+
+    @DisplayName("실패 : 대기 건수 capacity 초과 -> 429")
+    @Test
+    void acceptFullTest() throws Exception {
+        // given : drainer 정지, capacity 2
+        memberIngestService.stop();
+        UUID first = memberIngestService.accept(member("ingest1@mail.com")).getTrackingId();
+        UUID second = memberIngestService.accept(member("ingest2@mail.com")).getTrackingId();
+
+        // when
+        IngestQueueFullException e = assertThrows(IngestQueueFullException.class,
+                () -> memberIngestService.accept(member("ingest3@mail.com")));
+
+        // then : 재시작 후 대기 건 처리
+        assertThat(e.getRetryAfter()).isPositive();
+        memberIngestService.start();
+        created.add(await(first).getId());
+        created.add(await(second).getId());
+        assertThat(created).doesNotContainNull();
+    }
+}
@@ -0,0 +1,129 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.component.MemberSearchIndex;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * H2 -> in-memory trigram index 사용, 쓰기는 MemberChangedEvent 로 반영
+ */
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberSearchServiceTest {
+
+    private final MemberSearchService memberSearchService;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberService memberService;
+    private final MemberBatchService memberBatchService;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        created.add(save("search.kim@mail.com", "김검색", "010-5555-1234").getId());
+        created.add(save("kim.search@mail.com", "검색왕", "010-5555-9876").getId());
+        created.add(save("lee@mail.com", "이검색자", "010-7777-0000").getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberBatchService.deleteMembers(created);
+        created.clear();
+    }
+
+    private MemberEntity save(String email, String name, String phone) {
+        return memberService.saveMember(MemberEntity.builder().email(email).name(name).phone(phone).build());
+    }
+
+    private List<Long> ids(MemberDTO.SearchMemberDTO result) {
+        return result.getMembers().stream().map(MemberDTO.InfoMemberDTO::getId).toList();
+    }
+
+    @DisplayName("H2 는 in-memory index")
+    @Test
+    void engineTest() {
+        assertThat(memberSearchIndex.engine()).isEqualTo(MemberProperties.Search.Engine.MEMORY);
+        assertThat(memberSearchIndex.isReady()).isTrue();
+    }
+
+    @DisplayName("한글 이름 일부 : 접두 일치가 먼저")
+    @Test
+    void searchNameTest() {
+        // when
+        MemberDTO.SearchMemberDTO result = memberSearchService.searchMembers("검색", 0, null);
+
+        // then
+        assertThat(ids(result)).containsExactly(created.get(1), created.get(0), created.get(2));
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.isPartial()).isFalse();
+    }
+
+    @DisplayName("이메일 접두, 대소문자 무시")
+    @Test
+    void searchEmailTest() {
+        // when
+        MemberDTO.SearchMemberDTO result = memberSearchService.searchMembers("Search.", 0, null);
+
+        // then : search.kim 접두, kim.search 는 미포함
+        assertThat(ids(result)).containsExactly(created.get(0));
+    }
+
+    @DisplayName("전화번호 일부")
+    @Test
+    void searchPhoneTest() {
+        // when
+        MemberDTO.SearchMemberDTO result = memberSearchService.searchMembers("5555-98", 0, null);
+
+        // then
+        assertThat(ids(result)).containsExactly(created.get(1));
+    }
+
+    @DisplayName("페이지 : 다음 페이지 여부")
+    @Test
+    void searchPageTest() {
+        // when
+        MemberDTO.SearchMemberDTO first = memberSearchService.searchMembers("검색", 0, 2);
+        MemberDTO.SearchMemberDTO second = memberSearchService.searchMembers("검색", 1, 2);
+
+        // then
+        assertThat(ids(first)).containsExactly(created.get(1), created.get(0));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(ids(second)).containsExactly(created.get(2));
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @DisplayName("수정/삭제 반영")
+    @Test
+    void searchChangedTest() {
+        // when
+        memberService.updateMember(created.get(0), MemberEntity.builder().name("변경됨").build());
+        memberService.deleteMemberById(created.remove(2));
+
+        // then
+        assertThat(ids(memberSearchService.searchMembers("검색", 0, null))).containsExactly(created.get(1));
+        assertThat(ids(memberSearchService.searchMembers("변경됨", 0, null))).containsExactly(created.get(0));
+    }
+
+    @DisplayName("실패 : 검색어 길이, 페이지 범위")
+    @Test
+    void searchInvalidTest() {
+        assertThrows(InvalidMemberRequestException.class, () -> memberSearchService.searchMembers("김", 0, null));
+        assertThrows(InvalidMemberRequestException.class, () -> memberSearchService.searchMembers("검색", 100, 100));
+    }
+}
@@ -0,0 +1,120 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.config.CacheConfig;
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestConstructor;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberServiceCacheTest {
+
+    private final MemberService memberService;
+    private final CacheManager cacheManager;
+
+    @MockBean
+    private MemberRepo memberRepo;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+        clearInvocations(memberRepo);
+    }
+
+    private MemberEntity getMemberEntity() {
+        return MemberEntity.builder().email("admin@mail.com").name("운영자").phone("010-1234-5678").id(1L).build();
+    }
+
+    private MemberDTO.InfoMemberDTO getInfoDTO() {
+        return MemberDTO.InfoMemberDTO.builder().id(1L).email("admin@mail.com").name("운영자").phone("010-1234-5678").version(0L).build();
+    }
+
+    @DisplayName("ID 조회 cache hit")
+    @Test
+    void getMemberByIdCacheTest() {
+        // given
+        doReturn(Optional.of(getInfoDTO())).when(memberRepo).findInfoById(1L);
+
+        // when
+        MemberDTO.InfoMemberDTO first = memberService.getMemberById(1L);
+        MemberDTO.InfoMemberDTO second = memberService.getMemberById(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+
+        // verify
+        verify(memberRepo, times(1)).findInfoById(1L);
+    }
+
+    @DisplayName("수정 시 ID cache 무효화")
+    @Test
+    void updateMemberEvictTest() {
+        // given
+        doReturn(Optional.of(getInfoDTO())).when(memberRepo).findInfoById(1L);
+        doReturn(Optional.of(getMemberEntity())).when(memberRepo).findById(1L);
+        doReturn(1).when(memberRepo).updateById(eq(1L), any(), any(), any(), any(), any());
+        memberService.getMemberById(1L);
+
+        // when
+        memberService.updateMember(1L, MemberEntity.builder().email("admin@mail.com").name("수정").build());
+        memberService.getMemberById(1L);
+
+        // then : 최초 조회 + 재조회, 수정 결과는 entity 로 1회
+        verify(memberRepo, times(2)).findInfoById(1L);
+        verify(memberRepo, times(1)).findById(1L);
+    }
+
+    @DisplayName("가입 시 email cache 무효화")
+    @Test
+    void saveMemberEvictTest() {
+        // given
+        doReturn(false).when(memberRepo).existsByEmail(anyString());
+        doAnswer(invocation -> invocation.getArgument(0)).when(memberRepo).save(any(MemberEntity.class));
+        boolean before = memberService.isExistingEmail("admin@mail.com");
+        memberService.isExistingEmail("admin@mail.com");
+
+        // when
+        memberService.saveMember(getMemberEntity());
+        doReturn(true).when(memberRepo).existsByEmail(anyString());
+        boolean after = memberService.isExistingEmail("admin@mail.com");
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(after).isTrue();
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheConfig.MEMBER_EMAIL)).get("admin@mail.com")).isNotNull();
+    }
+
+    @DisplayName("목록 version cache, 쓰기 시 무효화")
+    @Test
+    void getMembersVersionEvictTest() {
+        // given
+        doReturn(new MemberDTO.ListVersionDTO(1, null)).when(memberRepo).findListVersion();
+        doReturn(1).when(memberRepo).deleteByIdAndVersion(1L, null);
+        memberService.getMembersVersion();
+        memberService.getMembersVersion();
+
+        // when
+        memberService.deleteMemberById(1L);
+        memberService.getMembersVersion();
+
+        // then : 최초 조회 + 삭제 후 재조회
+        verify(memberRepo, times(2)).findListVersion();
+    }
+}
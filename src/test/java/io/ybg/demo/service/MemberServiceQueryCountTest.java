@@ -0,0 +1,131 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.DuplicateEmailException;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.exception.MemberVersionMismatchException;
+import io.ybg.demo.repository.MemberRepo;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 수정/삭제 요청 당 실행 쿼리 수 검증 (hibernate.generate_statistics)
+ */
+@SpringBootTest
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberServiceQueryCountTest {
+
+    private final MemberService memberService;
+    private final MemberRepo memberRepo;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> created = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepo.deleteAllByIdInBatch(created);
+        created.clear();
+    }
+
+    private MemberEntity create(String email) {
+        MemberEntity member = memberRepo.save(MemberEntity.builder().email(email).name("유저").phone("010-1234-5678").build());
+        created.add(member.getId());
+        statistics.clear();
+        return member;
+    }
+
+    @DisplayName("수정 : update 1회 + 조회 1회 + outbox insert 1회")
+    @Test
+    void updateMemberTest() {
+        // given
+        MemberEntity member = create("count@mail.com");
+
+        // when
+        MemberEntity updated = memberService.updateMember(member.getId(), MemberEntity.builder().email("count2@mail.com").build(), member.getVersion());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(updated.getEmail()).isEqualTo("count2@mail.com");
+        assertThat(updated.getName()).isEqualTo("유저");
+        assertThat(updated.getVersion()).isEqualTo(member.getVersion() + 1);
+    }
+
+    @DisplayName("수정 실패 : 버전 불일치는 조회 없이 412")
+    @Test
+    void updateMemberTest_version() {
+        // given
+        MemberEntity member = create("count@mail.com");
+
+        // when
+        assertThrows(MemberVersionMismatchException.class,
+                () -> memberService.updateMember(member.getId(), MemberEntity.builder().name("수정").build(), member.getVersion() + 1));
+
+        // then : update + 존재 확인
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(memberRepo.findById(member.getId())).get().extracting(MemberEntity::getName).isEqualTo("유저");
+    }
+
+    @DisplayName("수정 실패 : 이메일 중복은 unique 제약으로 판단")
+    @Test
+    void updateMemberTest_dup() {
+        // given
+        create("taken@mail.com");
+        MemberEntity member = create("count@mail.com");
+
+        // when
+        DuplicateEmailException result = assertThrows(DuplicateEmailException.class,
+                () -> memberService.updateMember(member.getId(), MemberEntity.builder().email("taken@mail.com").build()));
+
+        // then : update + 원인 확인
+        assertThat(result.getMessage()).isEqualTo("Update Email already exists");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("삭제 : delete 1회 + outbox, tombstone insert 각 1회")
+    @Test
+    void deleteMemberByIdTest() {
+        // given
+        MemberEntity member = create("count@mail.com");
+
+        // when
+        memberService.deleteMemberById(member.getId(), member.getVersion());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(memberRepo.existsById(member.getId())).isFalse();
+    }
+
+    @DisplayName("삭제 실패 : 미존재 delete 1회")
+    @Test
+    void deleteMemberByIdTest_notFound() {
+        // given
+        statistics.clear();
+
+        // when
+        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMemberById(-1L));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -1,18 +1,36 @@
 package io.ybg.demo.service;
 
+import io.ybg.demo.component.EmailFilter;
+import io.ybg.demo.config.MemberProperties;
+import io.ybg.demo.dto.MemberDTO;
 import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.DuplicateEmailException;
+import io.ybg.demo.exception.MemberNotFoundException;
+import io.ybg.demo.exception.MemberVersionMismatchException;
 import io.ybg.demo.repository.MemberRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +60,25 @@ class MemberServiceTest {
     @Mock
     private MemberRepo memberRepo;
 
+    @Spy
+    private MemberProperties memberProperties;
+
+    @Mock
+    private EmailFilter emailFilter;
+
+    // callback 을 그대로 실행, commit/rollback 은 mock
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // 기본 : bloom filter 통과 -> DB 조회
+    @BeforeEach
+    void passEmailFilter() {
+        lenient().doReturn(true).when(emailFilter).mightContain(anyString());
+    }
+
     @DisplayName("초기화 상태")
     @Test
     public void initTest() {
@@ -53,6 +90,10 @@ class MemberServiceTest {
         return MemberEntity.builder().email("admin@mail.com").name("운영자").phone("010-1234-5678").id(1L).build();
     }
 
+    private MemberDTO.InfoMemberDTO getInfoDTO(long id) {
+        return MemberDTO.InfoMemberDTO.builder().id(id).email("admin@mail.com").name("운영자").phone("010-1234-5678").version(0L).build();
+    }
+
     @Nested
     @DisplayName("생성")
     class create {
@@ -108,10 +149,25 @@ class MemberServiceTest {
                 assertThat(ex.getMessage()).isEqualTo("TEST");
             });
 
-            // verify
-            verify(memberRepo, times(1)).existsByEmail(anyString());
+            // verify : 사전 검사 + 제약 위반 원인 확인
+            verify(memberRepo, times(2)).existsByEmail(anyString());
             verify(memberRepo, times(1)).save(any(MemberEntity.class));
         }
+
+        @Test
+        @DisplayName("실패 : bloom filter 음성이지만 다른 instance 가 가입한 email -> unique 제약 위반을 중복으로")
+        void saveMember_filterStale() {
+            // given
+            doReturn(false).when(emailFilter).mightContain(anyString());
+            doThrow(new DataIntegrityViolationException("TEST")).when(memberRepo).save(any(MemberEntity.class));
+            doReturn(true).when(memberRepo).existsByEmail(anyString());
+
+            // when, then
+            assertThrows(DuplicateEmailException.class, () -> memberService.saveMember(getMemberEntity()));
+
+            // verify : 원인 확인 1회
+            verify(memberRepo, times(1)).existsByEmail(anyString());
+        }
     }
 
     @Nested
@@ -121,41 +177,98 @@ class MemberServiceTest {
         @Test
         void getAllMembersTest() {
             // given
-            doReturn(Arrays.asList(mock(MemberEntity.class), mock(MemberEntity.class), mock(MemberEntity.class))).when(memberRepo).findAll();
+            doReturn(Arrays.asList(getInfoDTO(1L), getInfoDTO(2L), getInfoDTO(3L))).when(memberRepo).findAllInfo();
 
             // when
-            List<MemberEntity> allMembers = memberService.getAllMembers();
+            List<MemberDTO.InfoMemberDTO> allMembers = memberService.getAllMembers();
 
             // then
             assertThat(allMembers).isNotEmpty();
             assertThat(allMembers.size()).isEqualTo(3);
-            assertThat(allMembers.getFirst().getClass()).isEqualTo(MemberEntity.class);
+            assertThat(allMembers.getFirst().getId()).isEqualTo(1L);
+
+            // verify : entity 조회 없음
+            verify(memberRepo, never()).findAll();
         }
 
         @DisplayName("리스트 비어있음")
         @Test
         void getEmptyMembersTest() {
             // given
-            doReturn(Collections.emptyList()).when(memberRepo).findAll();
+            doReturn(Collections.emptyList()).when(memberRepo).findAllInfo();
 
             // when
-            List<MemberEntity> allMembers = memberService.getAllMembers();
+            List<MemberDTO.InfoMemberDTO> allMembers = memberService.getAllMembers();
 
             // then
             assertThat(allMembers).isEqualTo(Collections.emptyList());
         }
 
+        @DisplayName("cursor 페이지 정상")
+        @Test
+        void getMembersAfterTest() {
+            // given
+            final long cursor = 10L;
+            doReturn(new SliceImpl<>(List.of(getInfoDTO(11L)), PageRequest.of(0, 5), true))
+                    .when(memberRepo).findInfoByIdGreaterThan(anyLong(), any(Pageable.class));
+
+            // when
+            Slice<MemberDTO.InfoMemberDTO> page = memberService.getMembersAfter(cursor, 5);
+
+            // then
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.getContent().size()).isEqualTo(1);
+
+            // verify
+            verify(memberRepo, times(1)).findInfoByIdGreaterThan(cursor, PageRequest.of(0, 5, Sort.by("id")));
+        }
+
+        @DisplayName("cursor 페이지 크기 제한")
+        @Test
+        void getMembersAfter_maxSize() {
+            // given
+            final int maxSize = memberProperties.getPage().getMaxSize();
+            doReturn(new SliceImpl<MemberDTO.InfoMemberDTO>(Collections.emptyList())).when(memberRepo).findInfoByIdGreaterThan(anyLong(), any(Pageable.class));
+
+            // when
+            memberService.getMembersAfter(0L, maxSize * 10);
+            memberService.getMembersAfter(0L, null);
+
+            // then
+            verify(memberRepo, times(1)).findInfoByIdGreaterThan(0L, PageRequest.of(0, maxSize, Sort.by("id")));
+            verify(memberRepo, times(1)).findInfoByIdGreaterThan(0L, PageRequest.of(0, memberProperties.getPage().getDefaultSize(), Sort.by("id")));
+        }
+
+        @DisplayName("스트리밍 정상")
+        @Test
+        void streamAllMembersTest() {
+            // given
+            List<MemberDTO.InfoMemberDTO> members = Arrays.asList(getInfoDTO(1L), getInfoDTO(2L));
+            doReturn(members.stream()).when(memberRepo).streamAllInfo();
+            List<MemberDTO.InfoMemberDTO> consumed = new ArrayList<>();
+
+            // when
+            memberService.streamAllMembers(consumed::add);
+
+            // then
+            assertThat(consumed).isEqualTo(members);
+        }
+
         @Test
         @DisplayName("찾기 ID 정상")
         void getMemberByIdTest() {
             // given
-            doReturn(Optional.of(mock(MemberEntity.class))).when(memberRepo).findById(anyLong());
+            doReturn(Optional.of(getInfoDTO(1L))).when(memberRepo).findInfoById(anyLong());
 
             // when
-            MemberEntity findMember = memberService.getMemberById(anyLong());
+            MemberDTO.InfoMemberDTO findMember = memberService.getMemberById(1L);
 
             // then
             assertThat(findMember).isNotNull();
+            assertThat(findMember.getId()).isEqualTo(1L);
+
+            // verify
+            verify(memberRepo, never()).findById(anyLong());
         }
 
         @Test
@@ -163,7 +276,7 @@ class MemberServiceTest {
         void getMemberById_Empty() {
             // given
             final long id = 1L;
-            doThrow(new RuntimeException("Find Member with id: " + id + " doesn't exist")).when(memberRepo).findById(anyLong());
+            doThrow(new RuntimeException("Find Member with id: " + id + " doesn't exist")).when(memberRepo).findInfoById(anyLong());
 
             // when
             RuntimeException result = assertThrows(RuntimeException.class, () -> memberService.getMemberById(1L));
@@ -188,6 +301,38 @@ class MemberServiceTest {
                 assertThat(result).isFalse();
             }
 
+            @Test
+            @DisplayName("bloom filter 음성 : DB 조회 생략")
+            void isExistingEmail_filtered() {
+                // given
+                doReturn(false).when(emailFilter).mightContain(anyString());
+
+                // when
+                boolean result = memberService.isExistingEmail("new@mail.com");
+
+                // then
+                assertThat(result).isFalse();
+
+                // verify
+                verify(memberRepo, never()).existsByEmail(anyString());
+            }
+
+            @Test
+            @DisplayName("bloom filter 오탐 기록")
+            void isExistingEmail_falsePositive() {
+                // given
+                doReturn(false).when(memberRepo).existsByEmail(anyString());
+
+                // when
+                boolean result = memberService.isExistingEmail("new@mail.com");
+
+                // then
+                assertThat(result).isFalse();
+
+                // verify
+                verify(emailFilter, times(1)).recordFalsePositive();
+            }
+
             @Test
             @DisplayName("중복")
             void isExistingEmail_dup() {
@@ -208,11 +353,11 @@ class MemberServiceTest {
     class update {
 
         @Test
-        @DisplayName("정상")
+        @DisplayName("정상 : update 1회 + 조회 1회")
         void updateMemberTest() {
             // given
-            doReturn(Optional.of(mock(MemberEntity.class))).when(memberRepo).findById(anyLong());
-            doReturn(mock(MemberEntity.class)).when(memberRepo).save(any(MemberEntity.class));
+            doReturn(1).when(memberRepo).updateById(eq(1L), anyString(), anyString(), anyString(), isNull(), any(LocalDateTime.class));
+            doReturn(Optional.of(getMemberEntity())).when(memberRepo).findById(1L);
 
             // when
             MemberEntity updateMember = memberService.updateMember(1L, getMemberEntity());
@@ -221,27 +366,46 @@ class MemberServiceTest {
             assertThat(updateMember).isNotNull();
 
             // verify
-            verify(memberRepo, times(1)).save(any(MemberEntity.class));
+            verify(memberRepo, times(1)).updateById(eq(1L), anyString(), anyString(), anyString(), isNull(), any(LocalDateTime.class));
+            verify(memberRepo, times(1)).findById(1L);
+            verify(memberRepo, never()).existsByEmail(anyString());
+            verify(memberRepo, never()).save(any(MemberEntity.class));
+        }
+
+        @Test
+        @DisplayName("실패 : 버전 불일치")
+        void updateMember_version() {
+            // given
+            doReturn(0).when(memberRepo).updateById(eq(1L), anyString(), anyString(), anyString(), eq(1L), any(LocalDateTime.class));
+            doReturn(true).when(memberRepo).existsById(1L);
+
+            // when
+            assertThrows(MemberVersionMismatchException.class, () -> memberService.updateMember(1L, getMemberEntity(), 1L));
+
+            // verify
+            verify(memberRepo, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("실패 : 유저없음")
         void updateMember_notfound() {
             // given
-            doReturn(Optional.empty()).when(memberRepo).findById(anyLong());
+            doReturn(0).when(memberRepo).updateById(eq(1L), anyString(), anyString(), anyString(), isNull(), any(LocalDateTime.class));
 
             // when
-            RuntimeException result = assertThrows(RuntimeException.class, () -> memberService.updateMember(1L, getMemberEntity()));
+            MemberNotFoundException result = assertThrows(MemberNotFoundException.class, () -> memberService.updateMember(1L, getMemberEntity()));
 
             // then
             assertThat(result.getMessage()).isEqualTo("Update Member with id: " + 1L + " doesn't exist");
+            // 정상 흐름의 결과이므로 stack trace 없음
+            assertThat(result.getStackTrace()).isEmpty();
         }
 
         @Test
         @DisplayName("실패 : 중복이메일")
         void updateMember_dup() {
             // given
-            doReturn(Optional.of(mock(MemberEntity.class))).when(memberRepo).findById(anyLong());
+            doThrow(new DataIntegrityViolationException("TEST")).when(memberRepo).updateById(eq(1L), anyString(), anyString(), anyString(), isNull(), any(LocalDateTime.class));
             doReturn(true).when(memberRepo).existsByEmail(anyString());
 
             // when
@@ -255,8 +419,8 @@ class MemberServiceTest {
         @DisplayName("실패 : db 오류")
         void updateMember_db() {
             // given
-            doThrow(new DataIntegrityViolationException("TEST")).when(memberRepo).save(any(MemberEntity.class));
-            doReturn(Optional.of(mock(MemberEntity.class))).when(memberRepo).findById(anyLong());
+            doThrow(new DataIntegrityViolationException("TEST")).when(memberRepo).updateById(eq(1L), anyString(), anyString(), anyString(), isNull(), any(LocalDateTime.class));
+            doReturn(false).when(memberRepo).existsByEmail(anyString());
 
             // when
             DataIntegrityViolationException result = assertThrows(DataIntegrityViolationException.class, () -> memberService.updateMember(1L, getMemberEntity()));
@@ -275,37 +439,46 @@ class MemberServiceTest {
     class delete {
 
         @Test
-        @DisplayName("정상")
+        @DisplayName("정상 : delete 1회")
         void deleteMemberByIdTest() {
             // given
-            doReturn(Optional.of(mock(MemberEntity.class))).when(memberRepo).findById(anyLong());
+            doReturn(1).when(memberRepo).deleteByIdAndVersion(1L, null);
 
             // when
-            memberService.deleteMemberById(anyLong());
-
-            // then
-            verify(memberRepo, times(1)).deleteById(anyLong());
+            memberService.deleteMemberById(1L);
 
             // verify
-            verify(memberRepo, times(1)).findById(anyLong());
-            verify(memberRepo, times(1)).deleteById(anyLong());
+            verify(memberRepo, times(1)).deleteByIdAndVersion(1L, null);
+            verify(memberRepo, never()).findById(anyLong());
+            verify(memberRepo, never()).deleteById(anyLong());
+        }
+
+        @Test
+        @DisplayName("실패 : 버전 불일치")
+        void deleteMemberById_version() {
+            // given
+            doReturn(0).when(memberRepo).deleteByIdAndVersion(1L, 1L);
+            doReturn(true).when(memberRepo).existsById(1L);
+
+            // when
+            assertThrows(MemberVersionMismatchException.class, () -> memberService.deleteMemberById(1L, 1L));
         }
 
         @Test
         @DisplayName("실패 : 미존재")
         void deleteMemberById_notfound() {
             // given
-            doReturn(Optional.empty()).when(memberRepo).findById(anyLong());
+            doReturn(0).when(memberRepo).deleteByIdAndVersion(1L, null);
 
             // when
-            RuntimeException result = assertThrows(RuntimeException.class, () -> memberService.deleteMemberById(1L));
+            MemberNotFoundException result = assertThrows(MemberNotFoundException.class, () -> memberService.deleteMemberById(1L));
 
             // then
             assertThat(result.getMessage()).isEqualTo("Delete Member with id: " + 1L + " doesn't exist");
 
             // verify
-            verify(memberRepo, times(1)).findById(anyLong());
+            verify(memberRepo, never()).existsById(anyLong());
         }
 
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,145 @@
+package io.ybg.demo.service;
+
+import io.ybg.demo.dto.MemberDTO;
+import io.ybg.demo.entity.MemberEntity;
+import io.ybg.demo.exception.InvalidMemberRequestException;
+import io.ybg.demo.repository.MemberRepo;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// chunk 경계를 넘는 파일 안 중복을 확인하도록 chunk 2건
+@SpringBootTest(properties = "member.batch.chunk-size=2")
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class MemberTransferServiceTest {
+
+    private final MemberTransferService memberTransferService;
+    private final MemberRepo memberRepo;
+
+    @AfterEach
+    void cleanUp() {
+        // InitDataLoader 의 운영자 계정은 유지
+        memberRepo.deleteAllInBatch(memberRepo.findAll().stream().filter(m -> !m.getEmail().equals("admin@mail.com")).toList());
+    }
+
+    private InputStream file(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("CSV import : 행별 결과 집계, 실패 행 줄 번호")
+    @Test
+    void importCsvTest() throws Exception {
+        // given
+        memberRepo.save(MemberEntity.builder().email("exists@mail.com").name("유저").phone("010-1234-5678").build());
+        String csv = """
+                email,name,phone
+                import1@mail.com,홍길동,010-1234-5678
+                not-email,홍길동,010-1234-5678
+                "import2@mail.com","홍,길동",010-1234-5678
+                exists@mail.com,홍길동,010-1234-5678
+                import1@mail.com,홍길동,010-1234-5678
+                broken,row
+                """;
+
+        // when
+        MemberDTO.ImportStatusDTO result = memberTransferService.importMembers(MemberDTO.TransferFormat.CSV, file(csv));
+
+        // then
+        assertThat(result.getState()).isEqualTo(MemberDTO.ImportState.COMPLETED);
+        assertThat(result.getRows()).isEqualTo(6);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getConflict()).isEqualTo(2);
+        assertThat(result.getInvalid()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .extracting(MemberDTO.ImportErrorDTO::getLine, MemberDTO.ImportErrorDTO::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(3L, MemberDTO.BatchStatus.INVALID),
+                        tuple(5L, MemberDTO.BatchStatus.CONFLICT),
+                        tuple(6L, MemberDTO.BatchStatus.CONFLICT),
+                        tuple(7L, MemberDTO.BatchStatus.INVALID));
+        assertThat(memberRepo.existsByEmail("import2@mail.com")).isTrue();
+        assertThat(memberTransferService.getImport(result.getImportId()).getState()).isEqualTo(MemberDTO.ImportState.COMPLETED);
+    }
+
+    @DisplayName("NDJSON import")
+    @Test
+    void importNdjsonTest() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"ndjson1@mail.com","name":"홍길동","phone":"010-1234-5678"}
+                {"email":
+                {"email":"ndjson2@mail.com"}
+                """;
+
+        // when
+        MemberDTO.ImportStatusDTO result = memberTransferService.importMembers(MemberDTO.TransferFormat.NDJSON, file(ndjson));
+
+        // then
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().extracting(MemberDTO.ImportErrorDTO::getLine).isEqualTo(2L);
+    }
+
+    @DisplayName("CSV header 없음 : 예외, 진행 상황에 남지 않음")
+    @Test
+    void importHeaderTest() {
+        // when
+        assertThrows(InvalidMemberRequestException.class,
+                () -> memberTransferService.importMembers(MemberDTO.TransferFormat.CSV, file("name,phone\n")));
+
+        // then
+        assertThat(memberTransferService.getImports()).noneMatch(i -> i.getState() == MemberDTO.ImportState.RUNNING);
+    }
+
+    @DisplayName("CSV export 후 다시 import : 모두 CONFLICT")
+    @Test
+    void exportCsvTest() throws Exception {
+        // given
+        memberTransferService.importMembers(MemberDTO.TransferFormat.CSV, file("""
+                email,name,phone
+                export1@mail.com,"홍,길동",010-1234-5678
+                export2@mail.com,,
+                """));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberTransferService.exportMembers(MemberDTO.TransferFormat.CSV, out);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        MemberDTO.ImportStatusDTO reimport = memberTransferService.importMembers(MemberDTO.TransferFormat.CSV, file(csv));
+
+        // then
+        assertThat(csv.lines()).first().isEqualTo("id,uuid,email,name,phone,reg_dt,mod_dt");
+        assertThat(csv).contains(",export1@mail.com,\"홍,길동\",010-1234-5678,");
+        assertThat(count).isEqualTo(memberRepo.count());
+        assertThat(reimport.getRows()).isEqualTo(count);
+        assertThat(reimport.getConflict()).isEqualTo(count);
+    }
+
+    @DisplayName("NDJSON export : 한 줄에 1건")
+    @Test
+    void exportNdjsonTest() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberTransferService.exportMembers(MemberDTO.TransferFormat.NDJSON, out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .hasSize((int) count)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+    }
+}